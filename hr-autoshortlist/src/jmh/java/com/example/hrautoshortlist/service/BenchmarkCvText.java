@@ -0,0 +1,68 @@
+package com.example.hrautoshortlist.service;
+
+/**
+ * Synthetic CV text for the benchmarks: a realistic header, skills, education and
+ * certifications sections, followed by as many work-history entries as it takes
+ * to reach the requested size.
+ */
+final class BenchmarkCvText {
+
+    private static final String HEADER = """
+            Jane Moyo
+            Harare, Zimbabwe | jane.moyo@example.com | +263 77 123 4567
+
+            PROFILE
+            Backend engineer with 8+ years of experience building payment and HR platforms.
+            Comfortable owning services end to end, from design reviews to on-call.
+
+            Skills: Java, Spring Boot, Hibernate, PostgreSQL, Docker, Kubernetes, REST API, Microservices, Git
+            Tools & Practices: Agile, Scrum, CI/CD, Jenkins, Terraform, AWS
+
+            EDUCATION
+            Bachelor of Science in Computer Science, University of Zimbabwe, 2010 - 2014
+            Diploma in Project Management, Harare Polytechnic
+
+            Certifications: AWS Certified Developer - Associate, Certified Scrum Master, ITIL Foundation
+
+            WORK EXPERIENCE
+            """;
+
+    private static final String[] ROLES = {
+            "Senior Software Engineer", "Software Engineer", "Backend Developer", "Technical Lead", "Java Developer"
+    };
+
+    private static final String[] COMPANIES = {
+            "Econet Wireless", "CBZ Bank", "Delta Corporation", "Old Mutual", "Cassava Smartech"
+    };
+
+    private static final String ENTRY_BODY = """
+            - Designed and maintained microservices handling over a million transactions a day using Java and Spring.
+            - Migrated reporting jobs from Oracle to PostgreSQL, cutting nightly batch time from four hours to forty minutes.
+            - Introduced contract tests and a Jenkins pipeline; deployments went from monthly to several times a week.
+            - Mentored three junior developers and ran the team's weekly design review and communication sessions.
+            - Worked with product owners in two-week Scrum sprints, estimating and breaking down features.
+
+            """;
+
+    private BenchmarkCvText() {
+    }
+
+    /**
+     * CV text of at least {@code minChars} characters.
+     */
+    static String ofLength(int minChars) {
+        StringBuilder text = new StringBuilder(minChars + ENTRY_BODY.length() * 2);
+        text.append(HEADER);
+
+        int endYear = 2024;
+        for (int i = 0; text.length() < minChars; i++) {
+            int startYear = endYear - 2 - (i % 3);
+            text.append(ROLES[i % ROLES.length]).append(", ").append(COMPANIES[i % COMPANIES.length])
+                    .append(", ").append(startYear).append(" - ").append(i == 0 ? "Present" : String.valueOf(endYear))
+                    .append('\n')
+                    .append(ENTRY_BODY);
+            endYear = startYear;
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.entity.SkillTerm;
+import com.example.hrautoshortlist.repository.SkillTermRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SkillVocabulary backed by an in-memory repository, so scoring can be
+ * benchmarked without a database.
+ */
+final class BenchmarkVocabulary {
+
+    private BenchmarkVocabulary() {
+    }
+
+    static SkillVocabulary create() {
+        // IDs start at 1, as in the database
+        AtomicInteger nextId = new AtomicInteger(1);
+        List<SkillTerm> saved = new CopyOnWriteArrayList<>();
+
+        // Only the calls SkillVocabulary makes are supported
+        SkillTermRepository repository = (SkillTermRepository) Proxy.newProxyInstance(
+                SkillTermRepository.class.getClassLoader(),
+                new Class<?>[] { SkillTermRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByIdGreaterThanOrderByIdAsc" -> saved.stream()
+                            .filter(term -> term.getId() > (Integer) args[0])
+                            .toList();
+                    case "findByTerm" -> Optional.empty();
+                    case "lockForInsert" -> null;
+                    case "saveAndFlush" -> {
+                        SkillTerm term = withId((SkillTerm) args[0], nextId.getAndIncrement());
+                        saved.add(term);
+                        yield term;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        PlatformTransactionManager noTransactions = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+
+        return new SkillVocabulary(repository, noTransactions);
+    }
+
+    private static SkillTerm withId(SkillTerm term, int id) throws ReflectiveOperationException {
+        Field field = SkillTerm.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(term, id);
+        return term;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.hrautoshortlist.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of extracting all CV fields from the text Tika hands back.
+ * 4k characters is a typical two-page CV; 40k a long academic one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CVExtractionBenchmark {
+
+    @Param({ "4000", "12000", "40000" })
+    private int textLength;
+
+    private CvFieldCollector.Dictionary dictionary;
+    private String text;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = CVExtractionBenchmark.class.getResourceAsStream("/skill-taxonomy.json")) {
+            dictionary = SkillTaxonomy.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8)).dictionary();
+        }
+        text = BenchmarkCvText.ofLength(textLength);
+    }
+
+    @Benchmark
+    public CvFieldCollector extractFields() {
+        return CvFieldCollector.feed(text, new CvFieldCollector(dictionary));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.hrautoshortlist.service;
+
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Text extraction from a CV file through the format fast path versus Tika's
+ * auto-detection, per format. Both write into the same BoundedTextHandler the
+ * parse service uses; field extraction is measured by CVExtractionBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CvTextExtractorBenchmark {
+
+    @Param({ "docx", "txt" })
+    private String format;
+
+    @Param({ "4000", "40000" })
+    private int textLength;
+
+    private final AutoDetectParser tika = new AutoDetectParser();
+    private CvTextExtractor fastPath;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        String text = BenchmarkCvText.ofLength(textLength);
+        file = Files.createTempFile("cv-benchmark", "." + format);
+        if ("docx".equals(format)) {
+            writeDocx(text, file);
+            fastPath = new DocxTextExtractor();
+        } else {
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+            fastPath = new PlainTextExtractor();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String fastPath() throws Exception {
+        BoundedTextHandler text = new BoundedTextHandler(Integer.MAX_VALUE, line -> {
+        });
+        fastPath.extract(file, text);
+        return text.getText();
+    }
+
+    @Benchmark
+    public String tika() throws Exception {
+        BoundedTextHandler text = new BoundedTextHandler(Integer.MAX_VALUE, line -> {
+        });
+        try (InputStream in = Files.newInputStream(file)) {
+            tika.parse(in, new BodyContentHandler(text), new Metadata(), new ParseContext());
+        }
+        return text.getText();
+    }
+
+    /**
+     * Minimal Word package with one paragraph per line.
+     */
+    private static void writeDocx(String text, Path file) throws IOException {
+        StringBuilder body = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>");
+        for (String line : text.split("\n", -1)) {
+            body.append("<w:p><w:r><w:t xml:space=\"preserve\">")
+                    .append(line.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;"))
+                    .append("</w:t></w:r></w:p>");
+        }
+        body.append("</w:body></w:document>");
+
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            put(zip, "[Content_Types].xml", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                    + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                    + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Override PartName=\"/word/document.xml\" ContentType=\""
+                    + "application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/></Types>");
+            put(zip, "_rels/.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/"
+                    + "relationships/officeDocument\" Target=\"word/document.xml\"/></Relationships>");
+            put(zip, "word/document.xml", body.toString());
+        }
+    }
+
+    private static void put(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
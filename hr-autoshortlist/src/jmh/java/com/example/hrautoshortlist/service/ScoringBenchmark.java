@@ -0,0 +1,101 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.dto.ParsedCVData;
+import com.example.hrautoshortlist.dto.ScoreBreakdown;
+import com.example.hrautoshortlist.entity.Application;
+import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.entity.JobCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring one parsed CV against compiled job criteria, the step that
+ * runs once per applicant in every shortlist.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+
+    private static final String[] SKILL_POOL = {
+            "java", "spring boot", "hibernate", "postgresql", "docker", "kubernetes", "rest api", "microservices",
+            "git", "aws", "jenkins", "terraform", "react", "typescript", "python", "kafka", "redis", "mongodb",
+            "scrum", "agile", "sql", "linux", "ci/cd", "azure", "graphql", "node.js", "angular", "go", "rust",
+            "scala", "spark", "airflow", "tableau", "excel", "sap fico", "sap mm", "leadership", "communication",
+            "project management", "data analysis"
+    };
+
+    // Number of required skills in the job criteria
+    @Param({ "5", "20" })
+    private int requiredSkills;
+
+    private ApplicationShortlistService scorer;
+    private Application application;
+    private Job job;
+    private CompiledCriteria criteria;
+    private ParsedCVData cvData;
+
+    @Setup
+    public void setUp() throws IOException {
+        SkillVocabulary vocabulary = BenchmarkVocabulary.create();
+        SkillTaxonomy taxonomy;
+        try (InputStream in = ScoringBenchmark.class.getResourceAsStream("/skill-taxonomy.json")) {
+            taxonomy = SkillTaxonomy.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        JobCriteria jobCriteria = new JobCriteria();
+        jobCriteria.setRequiredSkills(slice(0, requiredSkills));
+        jobCriteria.setPreferredSkills(slice(requiredSkills, requiredSkills + 5));
+        jobCriteria.setKeywords(List.of("aws certified", "scrum master", "kafka", "itil"));
+        jobCriteria.setRequiredEducationLevels(List.of("Bachelors", "Masters"));
+        jobCriteria.setMinimumYearsExperience(5);
+        criteria = CompiledCriteria.compile(jobCriteria, vocabulary, taxonomy);
+
+        // A candidate matching about half the criteria
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < SKILL_POOL.length; i += 2) {
+            skills.add(SKILL_POOL[i]);
+        }
+        List<String> certifications = List.of("aws certified", "itil");
+        cvData = new ParsedCVData(skills, 8, "Bachelors", certifications, null);
+        cvData.setSkillBits(vocabulary.bitsOf(skills));
+        cvData.setCertificationBits(vocabulary.bitsOf(certifications));
+
+        // Scoring only uses the application and job for fallback scoring
+        scorer = new ApplicationShortlistService(null, null, null, null, null, null, null, null);
+        application = new Application();
+        job = new Job();
+    }
+
+    private static List<String> slice(int from, int to) {
+        List<String> values = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            values.add(SKILL_POOL[i % SKILL_POOL.length]);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public ScoreBreakdown computeEnhancedScore() {
+        return scorer.computeEnhancedScore(application, job, criteria, cvData);
+    }
+}
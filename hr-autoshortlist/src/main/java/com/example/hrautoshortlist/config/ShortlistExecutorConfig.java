@@ -0,0 +1,33 @@
+package com.example.hrautoshortlist.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Worker pools for the shortlist pipeline.
+ * I/O-bound steps (file hashing, DB reads/writes) run on virtual threads;
+ * CPU-bound text extraction (Tika, regex) runs on a pool sized to the cores.
+ * Scheduling drives the background CV parse queue.
+ */
+@Configuration
+@EnableScheduling
+public class ShortlistExecutorConfig {
+
+    @Bean(name = "cvIoExecutor", destroyMethod = "shutdown")
+    public ExecutorService cvIoExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cv-io-", 0).factory());
+    }
+
+    @Bean(name = "cvCpuExecutor", destroyMethod = "shutdown")
+    public ExecutorService cvCpuExecutor(@Value("${shortlist.cpu-threads:0}") int cpuThreads) {
+        // 0 (the default) means one thread per available core
+        int threads = cpuThreads > 0 ? cpuThreads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("cv-parse-", 0).daemon(true).factory());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hrautoshortlist.config;
+
+import com.example.hrautoshortlist.service.ParserMetrics;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.fork.ForkParser;
+import org.apache.tika.parser.AutoDetectParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Tika configuration and AutoDetectParser for the whole application.
+ * Building them runs service loading and detector setup, so it is done once at
+ * startup; the parser is thread-safe and shared by all parse threads.
+ */
+@Configuration
+public class TikaParserConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TikaParserConfig.class);
+
+    @Bean
+    public TikaConfig tikaConfig(ParserMetrics parserMetrics) {
+        long start = System.nanoTime();
+        TikaConfig config = TikaConfig.getDefaultConfig();
+        parserMetrics.recordInit(System.nanoTime() - start);
+        return config;
+    }
+
+    @Bean
+    public AutoDetectParser cvTextParser(TikaConfig tikaConfig, ParserMetrics parserMetrics) {
+        long start = System.nanoTime();
+        AutoDetectParser parser = new AutoDetectParser(tikaConfig);
+        long elapsed = System.nanoTime() - start;
+
+        parserMetrics.recordInit(elapsed);
+        logger.info("Initialized Tika parser in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return parser;
+    }
+
+    /**
+     * Pool of child JVMs for parsing the content types listed in
+     * shortlist.parse.isolation.content-types. A document that exhausts the
+     * child's heap or hangs takes down only that child, which is then replaced.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "shortlist.parse.isolation.enabled", havingValue = "true")
+    public ForkParser isolatedCvTextParser(
+            @Value("${shortlist.parse.isolation.pool-size:2}") int poolSize,
+            @Value("${shortlist.parse.isolation.max-heap:256m}") String maxHeap,
+            @Value("${shortlist.parse.timeout-seconds:60}") long timeoutSeconds) {
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        ForkParser parser = new ForkParser(ForkParser.class.getClassLoader(), new AutoDetectParser());
+        parser.setJavaCommand(List.of(java, "-Xmx" + maxHeap, "-Djava.awt.headless=true"));
+        parser.setPoolSize(poolSize);
+        parser.setServerParseTimeoutMillis(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+
+        logger.info("Parsing isolated content types in up to {} forked JVMs with -Xmx{}", poolSize, maxHeap);
+        return parser;
+    }
+}
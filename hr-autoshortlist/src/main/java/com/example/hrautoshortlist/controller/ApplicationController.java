@@ -1,21 +1,32 @@
 package com.example.hrautoshortlist.controller;
 
+import com.example.hrautoshortlist.dto.ShortlistReport;
 import com.example.hrautoshortlist.dto.ShortlistResult;
 import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
 import com.example.hrautoshortlist.entity.Application;
+import com.example.hrautoshortlist.entity.ShortlistBatch;
+import com.example.hrautoshortlist.entity.ShortlistRun;
 import com.example.hrautoshortlist.service.ApplicationService;
 import com.example.hrautoshortlist.service.ApplicationShortlistService;
-import com.example.hrautoshortlist.repository.ApplicationRepository;
+import com.example.hrautoshortlist.service.CVParsingService;
+import com.example.hrautoshortlist.service.CvParseQueueService;
+import com.example.hrautoshortlist.service.ShortlistRunService;
+import com.example.hrautoshortlist.repository.ApplicationListingRepository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -27,10 +38,16 @@ public class ApplicationController {
     private ApplicationService applicationService;
 
     @Autowired
-    private ApplicationRepository applicationRepository;
+    private ApplicationShortlistService shortlistService;
 
     @Autowired
-    private ApplicationShortlistService shortlistService;
+    private ShortlistRunService shortlistRunService;
+
+    @Autowired
+    private CvParseQueueService cvParseQueueService;
+
+    @Autowired
+    private CVParsingService cvParsingService;
 
     // POST /api/applications - Candidate submits application
     @PostMapping("/applications")
@@ -93,65 +110,58 @@ public class ApplicationController {
         }
     }
 
-    // GET /api/applications/byJob/{jobId} - Admin views applications for a job
+    // GET /api/applications/byJob/{jobId} - Admin views applications for a job, a page at a time
     @GetMapping("/applications/byJob/{jobId}")
-    public ResponseEntity<List<ApplicationResponseDTO>> getByJob(@PathVariable Long jobId) {
-        logger.info("=== FETCHING APPLICATIONS FOR JOB ===");
-        logger.info("Job ID: {}", jobId);
-
-        List<Application> applications = applicationRepository.findByJob_Id(jobId); // FIXED: Use findByJob_Id
-
-        logger.info("Found {} applications", applications.size());
-
-        List<ApplicationResponseDTO> dtos = applications.stream()
-                .map(app -> {
-                    logger.info("Processing application ID: {}, Candidate: {}",
-                            app.getId(),
-                            app.getCandidateUser() != null ? app.getCandidateUser().getFullName() : "Unknown");
-
-                    return new ApplicationResponseDTO(
-                            app.getId(),
-                            app.getFullname(),
-                            app.getEmail(),
-                            app.getPhone(),
-                            app.getSkills(),
-                            app.getCvFilename() != null ? "/uploads/" + app.getCvFilename() : null,
-                            app.getLetterFilename() != null ? "/uploads/" + app.getLetterFilename() : null,
-                            jobId,
-                            app.getJob() != null ? app.getJob().getTitle() : "Unknown",
-                            app.getCandidateUser() != null ? app.getCandidateUser().getId() : null,
-                            app.isShortlisted());
-                })
-                .collect(Collectors.toList());
-
-        logger.info("Returning {} DTOs for job {}", dtos.size(), jobId);
-        return ResponseEntity.ok(dtos);
-    }
-
-    // NEW: GET /api/applications/all - Get all applications across all jobs
+    public ResponseEntity<?> getByJob(@PathVariable Long jobId,
+            @RequestParam(required = false) Boolean shortlisted,
+            @RequestParam(required = false) String parseStatus,
+            @RequestParam(required = false) String education,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        logger.info("Fetching applications for job {}", jobId);
+        return listApplications(jobId, shortlisted, parseStatus, education, skill, search, sort, cursor, limit);
+    }
+
+    // GET /api/applications/all - Applications across all jobs, a page at a time
     @GetMapping("/applications/all")
-    public ResponseEntity<List<ApplicationResponseDTO>> getAllApplications() {
-        logger.info("Fetching all applications across all jobs");
-
-        List<Application> applications = applicationRepository.findAll();
-
-        List<ApplicationResponseDTO> dtos = applications.stream()
-                .map(app -> new ApplicationResponseDTO(
-                        app.getId(),
-                        app.getCandidateUser() != null ? app.getCandidateUser().getFullName() : "Unknown",
-                        app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "",
-                        app.getCandidateUser() != null ? app.getCandidateUser().getPhone() : "",
-                        app.getSkills(),
-                        app.getCvFilename() != null ? "/uploads/" + app.getCvFilename() : null,
-                        app.getLetterFilename() != null ? "/uploads/" + app.getLetterFilename() : null,
-                        app.getJob() != null ? app.getJob().getId() : null,
-                        app.getJob() != null ? app.getJob().getTitle() : "Unknown",
-                        app.getCandidateUser() != null ? app.getCandidateUser().getId() : null,
-                        app.isShortlisted()))
-                .collect(Collectors.toList());
-
-        logger.info("Returning {} total applications", dtos.size());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<?> getAllApplications(
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) Boolean shortlisted,
+            @RequestParam(required = false) String parseStatus,
+            @RequestParam(required = false) String education,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        logger.info("Fetching applications across all jobs");
+        return listApplications(jobId, shortlisted, parseStatus, education, skill, search, sort, cursor, limit);
+    }
+
+    // Body is the page's rows; the token for the next page (if any) is in X-Next-Cursor
+    private ResponseEntity<?> listApplications(Long jobId, Boolean shortlisted, String parseStatus,
+            String education, String skill, String search, String sort, String cursor, Integer limit) {
+        try {
+            ListingPage<ApplicationResponseDTO> page = applicationService.listApplications(
+                    new ApplicationListingRepository.Filter(jobId, shortlisted, blankToNull(parseStatus),
+                            blankToNull(education), blankToNull(skill), blankToNull(search)),
+                    sort, cursor, limit);
+            logger.info("Returning {} applications (more: {})", page.items().size(), page.nextCursor() != null);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header("X-Next-Cursor", page.nextCursor());
+            }
+            return response.body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
     // DELETE /api/applications/{id} - Delete an application
@@ -174,14 +184,151 @@ public class ApplicationController {
         logger.info("AI shortlisting for job {}, top {}", jobId, topN);
 
         try {
-            List<ShortlistResult> results = shortlistService.shortlistApplications(jobId, topN);
-            return ResponseEntity.ok(results);
+            ShortlistReport report = shortlistService.runShortlist(jobId, topN);
+            return ResponseEntity.ok()
+                    .header("X-Parse-Cache-Hits", String.valueOf(report.getParseCacheHits()))
+                    .header("X-Parse-Cache-Misses", String.valueOf(report.getParseCacheMisses()))
+                    .header("X-Parse-Cache-Hit-Ratio", String.format(Locale.ROOT, "%.2f", report.getParseCacheHitRatio()))
+                    .body(report.getResults());
         } catch (Exception ex) {
             logger.error("Error in AI shortlist", ex);
             return ResponseEntity.status(500).build();
         }
     }
 
+    // GET /api/applications/ai/shortlist/{jobId}/top - Top N by stored score (no parsing or scoring)
+    @GetMapping("/applications/ai/shortlist/{jobId}/top")
+    public ResponseEntity<?> getTopByStoredScore(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "3") int topN) {
+        try {
+            return ResponseEntity.ok(shortlistService.getTopByStoredScore(jobId, topN));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // POST /api/applications/ai/shortlist/{jobId}/stored - Shortlist top N by stored score
+    @PostMapping("/applications/ai/shortlist/{jobId}/stored")
+    public ResponseEntity<?> shortlistFromStoredScores(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "3") int topN) {
+
+        logger.info("Shortlisting job {} from stored scores, top {}", jobId, topN);
+
+        try {
+            return ResponseEntity.ok(shortlistService.shortlistFromStoredScores(jobId, topN));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // POST /api/applications/ai/shortlist/{jobId}/rescore - Recompute stored scores in the background
+    @PostMapping("/applications/ai/shortlist/{jobId}/rescore")
+    public ResponseEntity<?> rescoreJob(@PathVariable Long jobId) {
+        shortlistService.scheduleRescore(jobId);
+        return ResponseEntity.accepted().build();
+    }
+
+    // POST /api/applications/ai/shortlist/{jobId}/async - Start AI shortlist in the background
+    @PostMapping("/applications/ai/shortlist/{jobId}/async")
+    public ResponseEntity<?> aiShortlistAsync(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "3") int topN) {
+
+        logger.info("Async AI shortlisting for job {}, top {}", jobId, topN);
+
+        try {
+            ShortlistRun run = shortlistRunService.startRun(jobId, topN);
+
+            Map<String, Object> body = new HashMap<>();
+            body.put("runId", run.getId());
+            body.put("jobId", jobId);
+            body.put("status", run.getStatus());
+            body.put("statusUrl", "/api/applications/ai/shortlist/runs/" + run.getId());
+            body.put("streamUrl", "/api/applications/ai/shortlist/runs/" + run.getId() + "/stream");
+            return ResponseEntity.accepted().body(body);
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // POST /api/applications/ai/shortlist/batch - Shortlist several jobs (all active jobs by default) in the background
+    @PostMapping("/applications/ai/shortlist/batch")
+    public ResponseEntity<?> aiShortlistBatch(
+            @RequestParam(required = false) List<Long> jobIds,
+            @RequestParam(defaultValue = "3") int topN) {
+
+        logger.info("Batch AI shortlisting for jobs {}, top {}", jobIds != null ? jobIds : "all active", topN);
+
+        try {
+            ShortlistBatch batch = shortlistRunService.startBatch(jobIds, topN);
+
+            Map<String, Object> body = new HashMap<>();
+            body.put("batchId", batch.getId());
+            body.put("totalJobs", batch.getTotalJobs());
+            body.put("status", batch.getStatus());
+            body.put("statusUrl", "/api/applications/ai/shortlist/batches/" + batch.getId());
+            return ResponseEntity.accepted().body(body);
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // GET /api/applications/ai/shortlist/batches/{batchId} - Consolidated progress of a batch
+    @GetMapping("/applications/ai/shortlist/batches/{batchId}")
+    public ResponseEntity<?> getShortlistBatch(@PathVariable Long batchId) {
+        try {
+            return ResponseEntity.ok(shortlistRunService.getBatchStatus(batchId));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // GET /api/applications/ai/shortlist/runs/{runId} - Progress or stored result of an async run
+    @GetMapping("/applications/ai/shortlist/runs/{runId}")
+    public ResponseEntity<?> getShortlistRun(@PathVariable Long runId) {
+        try {
+            return ResponseEntity.ok(shortlistRunService.getStatus(runId));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // GET /api/applications/ai/shortlist/runs/{runId}/stream - Server-Sent Events with the converging ranking
+    @GetMapping(value = "/applications/ai/shortlist/runs/{runId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamShortlistRun(@PathVariable Long runId) {
+        return shortlistRunService.subscribe(runId);
+    }
+
+    // GET /api/applications/{id}/score-explanation - Score breakdown and explanation of one application
+    @GetMapping("/applications/{id}/score-explanation")
+    public ResponseEntity<?> getScoreExplanation(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(shortlistService.explainScore(id));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // GET /api/applications/{id}/parse-status - State of the background CV parse
+    @GetMapping("/applications/{id}/parse-status")
+    public ResponseEntity<?> getParseStatus(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(cvParseQueueService.getStatus(id));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // GET /api/applications/{id}/cv-text - Raw text extracted from the CV, for review and debugging
+    @GetMapping(value = "/applications/{id}/cv-text", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getCvText(@PathVariable Long id) {
+        return cvParsingService.getRawText(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(404).body("No extracted CV text for application " + id));
+    }
+
     // PATCH /api/applications/{id}/toggle-shortlist
     @PatchMapping("/applications/{id}/toggle-shortlist")
     public ResponseEntity<?> toggleShortlist(@PathVariable Long id) {
@@ -0,0 +1,64 @@
+package com.example.hrautoshortlist.controller;
+
+import com.example.hrautoshortlist.dto.CvReparseStatus;
+import com.example.hrautoshortlist.service.CvReparseService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/reparse")
+public class CvReparseController {
+
+    @Autowired
+    private CvReparseService cvReparseService;
+
+    // POST /api/admin/reparse?ratePerSecond=2 - Re-parse every CV parsed by an older extractor version, in the background
+    @PostMapping
+    public ResponseEntity<?> start(@RequestParam(required = false) Double ratePerSecond) {
+        if (ratePerSecond != null && !(ratePerSecond > 0)) {
+            return ResponseEntity.badRequest().body("ratePerSecond must be greater than 0");
+        }
+        try {
+            return ResponseEntity.accepted().body(cvReparseService.start(ratePerSecond));
+        } catch (IllegalStateException running) {
+            return ResponseEntity.status(409).body(running.getMessage());
+        }
+    }
+
+    // GET /api/admin/reparse - Progress of the most recent re-parse job
+    @GetMapping
+    public ResponseEntity<CvReparseStatus> getLatest() {
+        return cvReparseService.getLatestStatus()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // GET /api/admin/reparse/{jobId} - Progress of a re-parse job
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getStatus(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(cvReparseService.getStatus(jobId));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        }
+    }
+
+    // POST /api/admin/reparse/{jobId}/cancel - Stop a running job after the CV in progress
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<?> cancel(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(cvReparseService.cancel(jobId));
+        } catch (IllegalArgumentException notFound) {
+            return ResponseEntity.status(404).body(notFound.getMessage());
+        } catch (IllegalStateException notRunning) {
+            return ResponseEntity.status(409).body(notRunning.getMessage());
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.hrautoshortlist.controller;
 
 import com.example.hrautoshortlist.dto.JobDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
 import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
 import com.example.hrautoshortlist.entity.Job;
 import com.example.hrautoshortlist.entity.Application;
 import com.example.hrautoshortlist.enums.JobType;
+import com.example.hrautoshortlist.repository.JobListingRepository;
 import com.example.hrautoshortlist.service.JobService;
 import com.example.hrautoshortlist.service.ApplicationService;
 import org.slf4j.Logger;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.stream.Collectors;
@@ -32,16 +35,31 @@ public class JobController {
         @Autowired
         private ApplicationService applicationService;
 
-        // GET /api/jobs - Get all jobs with full details
+        // GET /api/jobs - Jobs with full details, a page at a time (next page token in X-Next-Cursor)
         @GetMapping
-        public ResponseEntity<List<JobDTO>> getAllJobs() {
-                logger.info("Fetching all jobs");
-                List<JobDTO> jobs = jobService.getAllJobs()
-                                .stream()
-                                .map(jobService::convertToDTO)
-                                .collect(Collectors.toList());
-                logger.info("Returning {} jobs", jobs.size());
-                return ResponseEntity.ok(jobs);
+        public ResponseEntity<?> getAllJobs(
+                        @RequestParam(required = false) Boolean active,
+                        @RequestParam(required = false) String department,
+                        @RequestParam(required = false) String jobType,
+                        @RequestParam(required = false) String sort,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer limit) {
+                logger.info("Fetching jobs");
+                try {
+                        JobType type = jobType == null || jobType.isBlank() ? null
+                                        : JobType.valueOf(jobType.trim().toUpperCase(Locale.ROOT));
+                        String dept = department == null || department.isBlank() ? null : department.trim();
+                        ListingPage<JobDTO> page = jobService.listJobs(
+                                        new JobListingRepository.Filter(active, dept, type), sort, cursor, limit);
+                        logger.info("Returning {} jobs (more: {})", page.items().size(), page.nextCursor() != null);
+                        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                        if (page.nextCursor() != null) {
+                                response.header("X-Next-Cursor", page.nextCursor());
+                        }
+                        return response.body(page.items());
+                } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().body(e.getMessage());
+                }
         }
 
         // GET /api/jobs/active - Applicants see only active jobs
@@ -119,32 +137,25 @@ public class JobController {
                 }
         }
 
-        // GET /api/jobs/admin/all - HR views all jobs (even inactive)
+        // GET /api/jobs/admin/all - HR views all jobs (even inactive), same paging and filters as /api/jobs
         @GetMapping("/admin/all")
-        public ResponseEntity<List<JobDTO>> allJobsAdmin() {
+        public ResponseEntity<?> allJobsAdmin(
+                        @RequestParam(required = false) Boolean active,
+                        @RequestParam(required = false) String department,
+                        @RequestParam(required = false) String jobType,
+                        @RequestParam(required = false) String sort,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer limit) {
                 logger.info("Admin fetching all jobs");
-                return ResponseEntity.ok(getAllJobs().getBody());
+                return getAllJobs(active, department, jobType, sort, cursor, limit);
         }
 
-        // GET /api/jobs/statistics - Dashboard statistics
+        // GET /api/jobs/statistics - Dashboard statistics (job counts, views, job types, total applications)
         @GetMapping("/statistics")
         public ResponseEntity<Map<String, Object>> getStatistics() {
                 logger.info("Fetching job statistics");
 
-                List<Job> allJobs = jobService.getAllJobs();
-
-                Map<String, Object> stats = new HashMap<>();
-                stats.put("totalJobs", allJobs.size());
-                stats.put("activeJobs", allJobs.stream().filter(Job::isActive).count());
-                stats.put("inactiveJobs", allJobs.stream().filter(j -> !j.isActive()).count());
-                stats.put("totalViews", allJobs.stream().mapToLong(Job::getViewCount).sum());
-
-                // Job types breakdown
-                Map<String, Long> jobTypeBreakdown = allJobs.stream()
-                                .collect(Collectors.groupingBy(
-                                                j -> j.getJobType() != null ? j.getJobType().name() : "PERMANENT",
-                                                Collectors.counting()));
-                stats.put("jobTypeBreakdown", jobTypeBreakdown);
+                Map<String, Object> stats = jobService.getStatistics();
 
                 logger.info("Statistics: {}", stats);
                 return ResponseEntity.ok(stats);
@@ -177,23 +188,7 @@ public class JobController {
         @GetMapping("/{jobId}/candidates")
         public ResponseEntity<List<ApplicationResponseDTO>> getCandidatesForJob(@PathVariable Long jobId) {
                 logger.info("Fetching candidates for job ID: {}", jobId);
-                List<Application> applications = applicationService.getApplicationsForJob(jobId);
-                List<ApplicationResponseDTO> dtos = applications.stream()
-                                .map(app -> new ApplicationResponseDTO(
-                                                app.getId(),
-                                                app.getCandidateUser() != null ? app.getCandidateUser().getFullName()
-                                                                : "Unknown",
-                                                app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "",
-                                                app.getCandidateUser() != null ? app.getCandidateUser().getPhone() : "",
-                                                app.getSkills(),
-                                                app.getCvFilename() != null ? "/uploads/" + app.getCvFilename() : null,
-                                                app.getLetterFilename() != null ? "/uploads/" + app.getLetterFilename()
-                                                                : null,
-                                                jobId,
-                                                app.getJob() != null ? app.getJob().getTitle() : "Unknown",
-                                                app.getCandidateUser() != null ? app.getCandidateUser().getId() : null,
-                                                app.isShortlisted()))
-                                .collect(Collectors.toList());
+                List<ApplicationResponseDTO> dtos = applicationService.getApplicationResponsesForJob(jobId);
                 logger.info("Returning {} candidates for job ID: {}", dtos.size(), jobId);
                 return ResponseEntity.ok(dtos);
         }
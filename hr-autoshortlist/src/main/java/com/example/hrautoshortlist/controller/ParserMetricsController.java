@@ -0,0 +1,24 @@
+package com.example.hrautoshortlist.controller;
+
+import com.example.hrautoshortlist.dto.ParserMetricsReport;
+import com.example.hrautoshortlist.service.ParserMetrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/parser")
+public class ParserMetricsController {
+
+    @Autowired
+    private ParserMetrics parserMetrics;
+
+    // GET /api/admin/parser/metrics - Parser init time and per-type parse latency on this node
+    @GetMapping("/metrics")
+    public ResponseEntity<ParserMetricsReport> getMetrics() {
+        return ResponseEntity.ok(parserMetrics.snapshot());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.hrautoshortlist.controller;
+
+import com.example.hrautoshortlist.dto.SkillTaxonomySummary;
+import com.example.hrautoshortlist.service.SkillTaxonomy;
+import com.example.hrautoshortlist.service.SkillTaxonomyService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/taxonomy")
+public class SkillTaxonomyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTaxonomyController.class);
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    // GET /api/admin/taxonomy - Skill taxonomy in use on this node
+    @GetMapping
+    public ResponseEntity<SkillTaxonomySummary> getTaxonomy() {
+        return ResponseEntity.ok(toSummary(skillTaxonomyService.current()));
+    }
+
+    // POST /api/admin/taxonomy/reload - Apply the taxonomy file now; affected CVs are re-extracted in the background
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        try {
+            return ResponseEntity.ok(toSummary(skillTaxonomyService.reload()));
+        } catch (IllegalArgumentException invalid) {
+            logger.warn("Rejected skill taxonomy: {}", invalid.getMessage());
+            return ResponseEntity.badRequest().body(invalid.getMessage());
+        }
+    }
+
+    private SkillTaxonomySummary toSummary(SkillTaxonomy taxonomy) {
+        return new SkillTaxonomySummary(taxonomy.fingerprint(), taxonomy.getSkills().size(),
+                taxonomy.getCertifications().size(), taxonomy.getSynonymCount());
+    }
+}
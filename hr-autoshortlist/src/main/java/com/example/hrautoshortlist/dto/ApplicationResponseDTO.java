@@ -12,6 +12,7 @@ public class ApplicationResponseDTO {
     private String jobTitle;
     private Long candidateId;
     private boolean shortlisted;
+    private Double score;
 
     public ApplicationResponseDTO() {
     }
@@ -32,6 +33,15 @@ public class ApplicationResponseDTO {
         this.shortlisted = shortlisted;
     }
 
+    // Listing rows, with the stored score (null until the application is scored)
+    public ApplicationResponseDTO(Long id, String fullname, String email, String phone,
+            String skills, String cvDownloadUrl, String letterDownloadUrl, Long jobId, String jobTitle,
+            Long candidateId, boolean shortlisted, Double score) {
+        this(id, fullname, email, phone, skills, cvDownloadUrl, letterDownloadUrl, jobId, jobTitle, candidateId,
+                shortlisted);
+        this.score = score;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -120,4 +130,12 @@ public class ApplicationResponseDTO {
     public void setCandidateId(Long candidateId) {
         this.candidateId = candidateId;
     }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.hrautoshortlist.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background CV parse state of one application.
+ */
+public class CvParseStatus {
+
+    private Long applicationId;
+    private String status; // NOT_QUEUED, PENDING, IN_PROGRESS, SUCCEEDED, FAILED
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CvParseStatus() {
+    }
+
+    public CvParseStatus(Long applicationId, String status, int attempts, LocalDateTime nextAttemptAt,
+            String lastError, LocalDateTime updatedAt) {
+        this.applicationId = applicationId;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
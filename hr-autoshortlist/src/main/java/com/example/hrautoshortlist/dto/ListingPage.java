@@ -0,0 +1,25 @@
+package com.example.hrautoshortlist.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing; nextCursor is null on the last page.
+ */
+public record ListingPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Page size for a requested limit: the default when none is given, and at
+     * most the maximum.
+     *
+     * @throws IllegalArgumentException if the limit is below 1
+     */
+    public static int pageSize(Integer limit, int defaultSize, int maxSize) {
+        if (limit == null) {
+            return Math.min(defaultSize, maxSize);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(limit, maxSize);
+    }
+}
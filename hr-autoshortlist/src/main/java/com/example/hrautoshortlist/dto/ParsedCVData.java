@@ -13,6 +13,10 @@ public class ParsedCVData {
     private String educationLevel;
     private List<String> certifications = new ArrayList<>();
     private String rawText;
+
+    // Skill vocabulary bitsets (null when not computed)
+    private long[] skillBits;
+    private long[] certificationBits;
     
     public ParsedCVData() {
     }
@@ -66,4 +70,20 @@ public class ParsedCVData {
     public void setRawText(String rawText) {
         this.rawText = rawText;
     }
+
+    public long[] getSkillBits() {
+        return skillBits;
+    }
+
+    public void setSkillBits(long[] skillBits) {
+        this.skillBits = skillBits;
+    }
+
+    public long[] getCertificationBits() {
+        return certificationBits;
+    }
+
+    public void setCertificationBits(long[] certificationBits) {
+        this.certificationBits = certificationBits;
+    }
 }
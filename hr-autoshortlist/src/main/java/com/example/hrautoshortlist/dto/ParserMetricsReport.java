@@ -0,0 +1,109 @@
+package com.example.hrautoshortlist.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text extraction statistics of this node since startup.
+ */
+public class ParserMetricsReport {
+    private double initMillis;
+    private boolean warmedUp;
+    private List<TypeStats> types = new ArrayList<>();
+
+    public ParserMetricsReport() {
+    }
+
+    public ParserMetricsReport(double initMillis, boolean warmedUp, List<TypeStats> types) {
+        this.initMillis = initMillis;
+        this.warmedUp = warmedUp;
+        this.types = types;
+    }
+
+    // Getters and Setters
+    public double getInitMillis() {
+        return initMillis;
+    }
+
+    public void setInitMillis(double initMillis) {
+        this.initMillis = initMillis;
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    public void setWarmedUp(boolean warmedUp) {
+        this.warmedUp = warmedUp;
+    }
+
+    public List<TypeStats> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<TypeStats> types) {
+        this.types = types;
+    }
+
+    /**
+     * Parse latency of one detected content type.
+     */
+    public static class TypeStats {
+        private String contentType;
+        private long count;
+        private long failures;
+        private double avgMillis;
+        private double maxMillis;
+
+        public TypeStats() {
+        }
+
+        public TypeStats(String contentType, long count, long failures, double avgMillis, double maxMillis) {
+            this.contentType = contentType;
+            this.count = count;
+            this.failures = failures;
+            this.avgMillis = avgMillis;
+            this.maxMillis = maxMillis;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public void setFailures(long failures) {
+            this.failures = failures;
+        }
+
+        public double getAvgMillis() {
+            return avgMillis;
+        }
+
+        public void setAvgMillis(double avgMillis) {
+            this.avgMillis = avgMillis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public void setMaxMillis(double maxMillis) {
+            this.maxMillis = maxMillis;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.hrautoshortlist.dto;
+
+/**
+ * Per-criterion result of scoring one application. Subscores are match ratios
+ * (0.0 - 1.0) and are null when fallback scoring was used; total is 0 - 100.
+ * Skills are SkillVocabulary IDs of the job's required skills; the readable
+ * explanation is rendered from this only when it is asked for.
+ */
+public class ScoreBreakdown {
+    private double total;
+    private Double skillsScore;
+    private Double experienceScore;
+    private Double educationScore;
+    private Double keywordsScore;
+    private boolean fallback;
+    private int[] matchedSkillIds;
+    private int[] missingSkillIds;
+    private Integer yearsOfExperience;
+    private String educationLevel;
+
+    public ScoreBreakdown() {
+    }
+
+    public ScoreBreakdown(double total, Double skillsScore, Double experienceScore, Double educationScore,
+            Double keywordsScore, boolean fallback) {
+        this.total = total;
+        this.skillsScore = skillsScore;
+        this.experienceScore = experienceScore;
+        this.educationScore = educationScore;
+        this.keywordsScore = keywordsScore;
+        this.fallback = fallback;
+    }
+
+    public static ScoreBreakdown fallback(double total) {
+        return new ScoreBreakdown(total, null, null, null, null, true);
+    }
+
+    // Getters and Setters
+    public double getTotal() {
+        return total;
+    }
+
+    public void setTotal(double total) {
+        this.total = total;
+    }
+
+    public Double getSkillsScore() {
+        return skillsScore;
+    }
+
+    public void setSkillsScore(Double skillsScore) {
+        this.skillsScore = skillsScore;
+    }
+
+    public Double getExperienceScore() {
+        return experienceScore;
+    }
+
+    public void setExperienceScore(Double experienceScore) {
+        this.experienceScore = experienceScore;
+    }
+
+    public Double getEducationScore() {
+        return educationScore;
+    }
+
+    public void setEducationScore(Double educationScore) {
+        this.educationScore = educationScore;
+    }
+
+    public Double getKeywordsScore() {
+        return keywordsScore;
+    }
+
+    public void setKeywordsScore(Double keywordsScore) {
+        this.keywordsScore = keywordsScore;
+    }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public void setFallback(boolean fallback) {
+        this.fallback = fallback;
+    }
+
+    public int[] getMatchedSkillIds() {
+        return matchedSkillIds;
+    }
+
+    public void setMatchedSkillIds(int[] matchedSkillIds) {
+        this.matchedSkillIds = matchedSkillIds;
+    }
+
+    public int[] getMissingSkillIds() {
+        return missingSkillIds;
+    }
+
+    public void setMissingSkillIds(int[] missingSkillIds) {
+        this.missingSkillIds = missingSkillIds;
+    }
+
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public String getEducationLevel() {
+        return educationLevel;
+    }
+
+    public void setEducationLevel(String educationLevel) {
+        this.educationLevel = educationLevel;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.hrautoshortlist.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consolidated progress of a multi-job shortlist batch: totals across all jobs
+ * plus the status of each job's run (without the full per-job report).
+ */
+public class ShortlistBatchStatus {
+    private Long batchId;
+    private int topN;
+    private String status;
+    private int totalJobs;
+    private int completedJobs;
+    private int failedJobs;
+    private int totalApplications;
+    private int parsedApplications;
+    private int scoredApplications;
+    private int parseCacheHits;
+    private int parseCacheMisses;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    // One entry per job, in execution order
+    private List<ShortlistRunStatus> jobs = new ArrayList<>();
+
+    public ShortlistBatchStatus() {
+    }
+
+    // Getters and Setters
+    public Long getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(Long batchId) {
+        this.batchId = batchId;
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public void setTopN(int topN) {
+        this.topN = topN;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getTotalJobs() {
+        return totalJobs;
+    }
+
+    public void setTotalJobs(int totalJobs) {
+        this.totalJobs = totalJobs;
+    }
+
+    public int getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public void setCompletedJobs(int completedJobs) {
+        this.completedJobs = completedJobs;
+    }
+
+    public int getFailedJobs() {
+        return failedJobs;
+    }
+
+    public void setFailedJobs(int failedJobs) {
+        this.failedJobs = failedJobs;
+    }
+
+    public int getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(int totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public int getParsedApplications() {
+        return parsedApplications;
+    }
+
+    public void setParsedApplications(int parsedApplications) {
+        this.parsedApplications = parsedApplications;
+    }
+
+    public int getScoredApplications() {
+        return scoredApplications;
+    }
+
+    public void setScoredApplications(int scoredApplications) {
+        this.scoredApplications = scoredApplications;
+    }
+
+    public int getParseCacheHits() {
+        return parseCacheHits;
+    }
+
+    public void setParseCacheHits(int parseCacheHits) {
+        this.parseCacheHits = parseCacheHits;
+    }
+
+    public int getParseCacheMisses() {
+        return parseCacheMisses;
+    }
+
+    public void setParseCacheMisses(int parseCacheMisses) {
+        this.parseCacheMisses = parseCacheMisses;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public List<ShortlistRunStatus> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<ShortlistRunStatus> jobs) {
+        this.jobs = jobs;
+    }
+}
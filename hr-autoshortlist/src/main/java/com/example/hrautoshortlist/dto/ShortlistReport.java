@@ -0,0 +1,63 @@
+package com.example.hrautoshortlist.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a shortlist run: the ranked results plus parse-cache statistics.
+ */
+public class ShortlistReport {
+    private Long jobId;
+    private List<ShortlistResult> results = new ArrayList<>();
+    private int parseCacheHits;
+    private int parseCacheMisses;
+
+    public ShortlistReport() {
+    }
+
+    public ShortlistReport(Long jobId, List<ShortlistResult> results, int parseCacheHits, int parseCacheMisses) {
+        this.jobId = jobId;
+        this.results = results;
+        this.parseCacheHits = parseCacheHits;
+        this.parseCacheMisses = parseCacheMisses;
+    }
+
+    // Fraction of applications whose stored parse was reused (0.0 - 1.0)
+    public double getParseCacheHitRatio() {
+        int total = parseCacheHits + parseCacheMisses;
+        return total == 0 ? 0.0 : (double) parseCacheHits / total;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public List<ShortlistResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ShortlistResult> results) {
+        this.results = results;
+    }
+
+    public int getParseCacheHits() {
+        return parseCacheHits;
+    }
+
+    public void setParseCacheHits(int parseCacheHits) {
+        this.parseCacheHits = parseCacheHits;
+    }
+
+    public int getParseCacheMisses() {
+        return parseCacheMisses;
+    }
+
+    public void setParseCacheMisses(int parseCacheMisses) {
+        this.parseCacheMisses = parseCacheMisses;
+    }
+}
@@ -8,6 +8,9 @@ public class ShortlistResult {
     private boolean shortlisted;
     private String reason;
 
+    // Structured score; reason is only rendered for the shortlisted top N
+    private ScoreBreakdown breakdown;
+
     public ShortlistResult() {
     }
 
@@ -68,4 +71,12 @@ public class ShortlistResult {
     public void setReason(String reason) {
         this.reason = reason;
     }
+
+    public ScoreBreakdown getBreakdown() {
+        return breakdown;
+    }
+
+    public void setBreakdown(ScoreBreakdown breakdown) {
+        this.breakdown = breakdown;
+    }
 }
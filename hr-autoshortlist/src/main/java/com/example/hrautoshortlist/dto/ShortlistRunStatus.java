@@ -0,0 +1,137 @@
+package com.example.hrautoshortlist.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress snapshot of an asynchronous shortlist run, returned by the status
+ * endpoint and pushed as Server-Sent Events.
+ */
+public class ShortlistRunStatus {
+    private Long runId;
+    private Long jobId;
+    private int topN;
+    private String status;
+    private int total;
+    private int parsed;
+    private int scored;
+    private Long etaSeconds;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String error;
+
+    // Current best N while running (converging), final top N once completed
+    private List<ShortlistResult> ranking = new ArrayList<>();
+
+    // Full stored report, only set once the run has completed
+    private ShortlistReport report;
+
+    public ShortlistRunStatus() {
+    }
+
+    // Getters and Setters
+    public Long getRunId() {
+        return runId;
+    }
+
+    public void setRunId(Long runId) {
+        this.runId = runId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public void setTopN(int topN) {
+        this.topN = topN;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getParsed() {
+        return parsed;
+    }
+
+    public void setParsed(int parsed) {
+        this.parsed = parsed;
+    }
+
+    public int getScored() {
+        return scored;
+    }
+
+    public void setScored(int scored) {
+        this.scored = scored;
+    }
+
+    public Long getEtaSeconds() {
+        return etaSeconds;
+    }
+
+    public void setEtaSeconds(Long etaSeconds) {
+        this.etaSeconds = etaSeconds;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public List<ShortlistResult> getRanking() {
+        return ranking;
+    }
+
+    public void setRanking(List<ShortlistResult> ranking) {
+        this.ranking = ranking;
+    }
+
+    public ShortlistReport getReport() {
+        return report;
+    }
+
+    public void setReport(ShortlistReport report) {
+        this.report = report;
+    }
+}
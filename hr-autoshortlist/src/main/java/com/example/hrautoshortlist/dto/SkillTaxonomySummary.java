@@ -0,0 +1,56 @@
+package com.example.hrautoshortlist.dto;
+
+/**
+ * The skill taxonomy currently used for CV extraction on this node.
+ */
+public class SkillTaxonomySummary {
+
+    private String fingerprint;
+    private int skillCount;
+    private int certificationCount;
+    private int synonymCount;
+
+    // Constructors
+    public SkillTaxonomySummary() {
+    }
+
+    public SkillTaxonomySummary(String fingerprint, int skillCount, int certificationCount, int synonymCount) {
+        this.fingerprint = fingerprint;
+        this.skillCount = skillCount;
+        this.certificationCount = certificationCount;
+        this.synonymCount = synonymCount;
+    }
+
+    // Getters and Setters
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public int getSkillCount() {
+        return skillCount;
+    }
+
+    public void setSkillCount(int skillCount) {
+        this.skillCount = skillCount;
+    }
+
+    public int getCertificationCount() {
+        return certificationCount;
+    }
+
+    public void setCertificationCount(int certificationCount) {
+        this.certificationCount = certificationCount;
+    }
+
+    public int getSynonymCount() {
+        return synonymCount;
+    }
+
+    public void setSynonymCount(int synonymCount) {
+        this.synonymCount = synonymCount;
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.hrautoshortlist.entity;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_job_score", columnList = "job_id, score DESC, id"),
+        // Keyset listing orders (see ApplicationListingRepositoryImpl)
+        @Index(name = "idx_applications_job_id", columnList = "job_id, id"),
+        @Index(name = "idx_applications_score", columnList = "score DESC, id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_applications_candidate_job", columnNames = { "candidate_id",
+        "job_id" }))
 public class Application {
 
     @Id
@@ -39,6 +46,30 @@ public class Application {
     @Column(name = "shortlisted", columnDefinition = "boolean default false")
     private boolean shortlisted = false;
 
+    // Materialized score (0-100) against the job's criteria, set when the CV is parsed
+    @Column(name = "score")
+    private Double score;
+
+    // Per-criterion match ratios (0-1); null when fallback scoring was used
+    @Column(name = "skills_score")
+    private Double skillsScore;
+
+    @Column(name = "experience_score")
+    private Double experienceScore;
+
+    @Column(name = "education_score")
+    private Double educationScore;
+
+    @Column(name = "keywords_score")
+    private Double keywordsScore;
+
+    // JobCriteria version the score was computed with
+    @Column(name = "scored_criteria_version")
+    private Long scoredCriteriaVersion;
+
+    @Column(name = "scored_at")
+    private LocalDateTime scoredAt;
+
     public Application() {
     }
 
@@ -136,4 +167,32 @@ public class Application {
     public void setShortlisted(boolean shortlisted) {
         this.shortlisted = shortlisted;
     }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public Double getSkillsScore() {
+        return skillsScore;
+    }
+
+    public Double getExperienceScore() {
+        return experienceScore;
+    }
+
+    public Double getEducationScore() {
+        return educationScore;
+    }
+
+    public Double getKeywordsScore() {
+        return keywordsScore;
+    }
+
+    public Long getScoredCriteriaVersion() {
+        return scoredCriteriaVersion;
+    }
+
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
 }
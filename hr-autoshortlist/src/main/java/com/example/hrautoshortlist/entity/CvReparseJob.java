@@ -0,0 +1,199 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Background re-parse of every stored CV parse made by an older extractor
+ * version. Progress is checkpointed here after each CV, so a job whose node
+ * stops is resumed by another node (or the same one after a restart) from the
+ * last checkpoint.
+ */
+@Entity
+@Table(name = "cv_reparse_jobs")
+public class CvReparseJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Re-parse every parse stored by an older extractor version than this
+    @Column(name = "target_version", nullable = false)
+    private int targetVersion;
+
+    @Column(name = "status", nullable = false)
+    private String status = "RUNNING"; // RUNNING, COMPLETED, CANCELLED, FAILED
+
+    // Max re-parses per second
+    @Column(name = "rate_per_second", nullable = false)
+    private double ratePerSecond;
+
+    // Stale parses when the job started
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "reparsed_count", nullable = false)
+    private int reparsedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    // Checkpoint: every stale parse up to this ParsedCV ID has been handled
+    @Column(name = "last_parsed_cv_id", nullable = false)
+    private Long lastParsedCvId = 0L;
+
+    // Node running the job; the lease expires when the heartbeat stops
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = startedAt;
+    }
+
+    // Constructors
+    public CvReparseJob() {
+    }
+
+    public CvReparseJob(int targetVersion, double ratePerSecond, int totalCount) {
+        this.targetVersion = targetVersion;
+        this.ratePerSecond = ratePerSecond;
+        this.totalCount = totalCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public int getTargetVersion() {
+        return targetVersion;
+    }
+
+    public void setTargetVersion(int targetVersion) {
+        this.targetVersion = targetVersion;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(int processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public int getReparsedCount() {
+        return reparsedCount;
+    }
+
+    public void setReparsedCount(int reparsedCount) {
+        this.reparsedCount = reparsedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public Long getLastParsedCvId() {
+        return lastParsedCvId;
+    }
+
+    public void setLastParsedCvId(Long lastParsedCvId) {
+        this.lastParsedCvId = lastParsedCvId;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -7,8 +7,11 @@ import java.time.LocalDateTime;
 @Table(name = "interview_invitations")
 public class InterviewInvitation {
 
+    // Pooled sequence (see V7__pooled_id_sequences.sql), not IDENTITY: invitations are saved in bulk,
+    // and Hibernate can only batch inserts when it can assign IDs before executing them
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_invitations_seq")
+    @SequenceGenerator(name = "interview_invitations_seq", sequenceName = "interview_invitations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -25,7 +28,7 @@ public class InterviewInvitation {
     private String interviewLocation;
 
     @Column(name = "status")
-    private String status; // SENT, FAILED
+    private String status; // PENDING (stored before the email goes out), SENT, FAILED
 
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
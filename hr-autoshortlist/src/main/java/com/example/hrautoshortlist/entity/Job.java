@@ -6,7 +6,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        // Keyset listing of active/inactive jobs (see JobListingRepositoryImpl)
+        @Index(name = "idx_jobs_active_id", columnList = "active, id")
+})
 public class Job {
 
     @Id
@@ -50,6 +53,13 @@ public class Job {
     @Column(name = "view_count")
     private Long viewCount = 0L;
 
+    // Maintained by JobRepository.adjustApplicantCount when applications are
+    // submitted or deleted; never written from the entity, so saving a Job
+    // cannot overwrite a concurrent change
+    @Column(name = "applicant_count", columnDefinition = "integer default 0 not null",
+            insertable = false, updatable = false)
+    private int applicantCount;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -172,6 +182,10 @@ public class Job {
         this.viewCount++;
     }
 
+    public int getApplicantCount() {
+        return applicantCount;
+    }
+
     public String getRequiredQualifications() {
         return requiredQualifications;
     }
@@ -10,12 +10,18 @@ import java.util.List;
  */
 @Entity
 @Table(name = "job_criteria")
+@EntityListeners(JobCriteriaChangeListener.class)
 public class JobCriteria {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Incremented on every change; identifies the criteria version a score was computed with
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToOne
     @JoinColumn(name = "job_id", unique = true)
     private Job job;
@@ -77,6 +83,10 @@ public class JobCriteria {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public Job getJob() {
         return job;
     }
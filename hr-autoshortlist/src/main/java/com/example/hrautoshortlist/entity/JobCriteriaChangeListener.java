@@ -0,0 +1,31 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA listener that announces edits and removals of JobCriteria rows, so the
+ * compiled scoring plan is dropped and stored application scores get refreshed.
+ * Instantiated by Hibernate through Spring, so its collaborators are injected.
+ *
+ * New criteria are not announced: they are the defaults created the first time
+ * a job is scored, and that scoring already uses them. Nothing is compiled for
+ * them yet, and a rescore would only repeat the work alongside it.
+ */
+public class JobCriteriaChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public JobCriteriaChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(JobCriteria criteria) {
+        if (criteria.getJob() != null) {
+            eventPublisher.publishEvent(new JobCriteriaChangedEvent(criteria.getJob().getId()));
+        }
+    }
+}
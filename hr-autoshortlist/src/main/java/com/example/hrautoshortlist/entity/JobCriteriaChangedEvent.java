@@ -0,0 +1,7 @@
+package com.example.hrautoshortlist.entity;
+
+/**
+ * Published when a job's scoring criteria are edited or removed.
+ */
+public record JobCriteriaChangedEvent(Long jobId) {
+}
@@ -0,0 +1,35 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Stores a long[] bitset as a compact binary column.
+ */
+@Converter
+public class LongArrayConverter implements AttributeConverter<long[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(long[] attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(attribute.length * Long.BYTES);
+        buffer.asLongBuffer().put(attribute);
+        return buffer.array();
+    }
+
+    @Override
+    public long[] convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        LongBuffer buffer = ByteBuffer.wrap(dbData).asLongBuffer();
+        long[] attribute = new long[buffer.remaining()];
+        buffer.get(attribute);
+        return attribute;
+    }
+}
@@ -10,7 +10,9 @@ import java.util.List;
  * This enables intelligent matching and scoring without re-parsing.
  */
 @Entity
-@Table(name = "parsed_cvs")
+@Table(name = "parsed_cvs", indexes = {
+        @Index(name = "idx_parsed_cvs_content_hash", columnList = "content_hash")
+})
 public class ParsedCV {
 
     @Id
@@ -23,7 +25,9 @@ public class ParsedCV {
 
     // Extracted skills from CV
     @ElementCollection
-    @CollectionTable(name = "parsed_cv_skills", joinColumns = @JoinColumn(name = "parsed_cv_id"))
+    @CollectionTable(name = "parsed_cv_skills", joinColumns = @JoinColumn(name = "parsed_cv_id"), indexes = {
+            @Index(name = "idx_parsed_cv_skills_skill", columnList = "skill, parsed_cv_id")
+    })
     @Column(name = "skill")
     private List<String> extractedSkills = new ArrayList<>();
 
@@ -41,9 +45,7 @@ public class ParsedCV {
     @Column(name = "certification")
     private List<String> certifications = new ArrayList<>();
 
-    // Raw extracted text (for debugging and review)
-    @Column(columnDefinition = "TEXT")
-    private String rawText;
+    // Raw extracted text lives compressed in parsed_cv_texts (ParsedCVText)
 
     // When the CV was parsed
     @Column(name = "parsed_at")
@@ -51,11 +53,32 @@ public class ParsedCV {
 
     // Parsing status and errors
     @Column(name = "parsing_status")
-    private String parsingStatus = "SUCCESS"; // SUCCESS, FAILED, PARTIAL
+    private String parsingStatus = "SUCCESS"; // SUCCESS, FAILED, PARTIAL, TIMEOUT
 
     @Column(name = "parsing_error", length = 1000)
     private String parsingError;
 
+    // SHA-256 of the CV file the fields above were extracted from
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Extractor version that produced this row (see CVParsingService.PARSER_VERSION)
+    @Column(name = "parser_version")
+    private Integer parserVersion;
+
+    // Skill vocabulary bitsets of extractedSkills and certifications (see SkillVocabulary)
+    @Convert(converter = LongArrayConverter.class)
+    @Column(name = "skill_bits")
+    private long[] skillBits;
+
+    @Convert(converter = LongArrayConverter.class)
+    @Column(name = "certification_bits")
+    private long[] certificationBits;
+
+    // Vocabulary size the bitsets were built against; rebuilt when the vocabulary grows
+    @Column(name = "skill_vocabulary_size")
+    private Integer skillVocabularySize;
+
     @PrePersist
     protected void onCreate() {
         if (parsedAt == null) {
@@ -117,14 +140,6 @@ public class ParsedCV {
         this.certifications = certifications;
     }
 
-    public String getRawText() {
-        return rawText;
-    }
-
-    public void setRawText(String rawText) {
-        this.rawText = rawText;
-    }
-
     public LocalDateTime getParsedAt() {
         return parsedAt;
     }
@@ -148,4 +163,44 @@ public class ParsedCV {
     public void setParsingError(String parsingError) {
         this.parsingError = parsingError;
     }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Integer getParserVersion() {
+        return parserVersion;
+    }
+
+    public void setParserVersion(Integer parserVersion) {
+        this.parserVersion = parserVersion;
+    }
+
+    public long[] getSkillBits() {
+        return skillBits;
+    }
+
+    public void setSkillBits(long[] skillBits) {
+        this.skillBits = skillBits;
+    }
+
+    public long[] getCertificationBits() {
+        return certificationBits;
+    }
+
+    public void setCertificationBits(long[] certificationBits) {
+        this.certificationBits = certificationBits;
+    }
+
+    public Integer getSkillVocabularySize() {
+        return skillVocabularySize;
+    }
+
+    public void setSkillVocabularySize(Integer skillVocabularySize) {
+        this.skillVocabularySize = skillVocabularySize;
+    }
 }
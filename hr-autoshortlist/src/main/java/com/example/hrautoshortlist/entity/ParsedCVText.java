@@ -0,0 +1,59 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Deflate-compressed raw text of a parsed CV, kept apart from parsed_cvs so that
+ * loading parse results for scoring never reads it. Only the review endpoint
+ * decompresses it.
+ */
+@Entity
+@Table(name = "parsed_cv_texts")
+public class ParsedCVText {
+
+    @Id
+    @Column(name = "parsed_cv_id")
+    private Long parsedCvId;
+
+    // Length of the uncompressed text in characters
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Column(name = "compressed", nullable = false, columnDefinition = "bytea")
+    private byte[] compressed;
+
+    // Constructors
+    public ParsedCVText() {
+    }
+
+    public ParsedCVText(Long parsedCvId, int originalLength, byte[] compressed) {
+        this.parsedCvId = parsedCvId;
+        this.originalLength = originalLength;
+        this.compressed = compressed;
+    }
+
+    // Getters and Setters
+    public Long getParsedCvId() {
+        return parsedCvId;
+    }
+
+    public void setParsedCvId(Long parsedCvId) {
+        this.parsedCvId = parsedCvId;
+    }
+
+    public int getOriginalLength() {
+        return originalLength;
+    }
+
+    public void setOriginalLength(int originalLength) {
+        this.originalLength = originalLength;
+    }
+
+    public byte[] getCompressed() {
+        return compressed;
+    }
+
+    public void setCompressed(byte[] compressed) {
+        this.compressed = compressed;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Shortlisting of several jobs in one background pass, e.g. when a hiring
+ * campaign closes. Each job gets its own ShortlistRun pointing back here.
+ * The node working through the batch renews its lease; a batch whose lease
+ * runs out is closed with errors and its remaining runs are failed.
+ */
+@Entity
+@Table(name = "shortlist_batches")
+public class ShortlistBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "top_n", nullable = false)
+    private int topN;
+
+    @Column(name = "status", nullable = false)
+    private String status = "RUNNING"; // RUNNING, COMPLETED, COMPLETED_WITH_ERRORS
+
+    @Column(name = "total_jobs", nullable = false)
+    private int totalJobs;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Node working through the batch; the lease expires when the heartbeat stops
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+    }
+
+    // Constructors
+    public ShortlistBatch() {
+    }
+
+    public ShortlistBatch(int topN, int totalJobs) {
+        this.topN = topN;
+        this.totalJobs = totalJobs;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public void setTopN(int topN) {
+        this.topN = topN;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getTotalJobs() {
+        return totalJobs;
+    }
+
+    public void setTotalJobs(int totalJobs) {
+        this.totalJobs = totalJobs;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A single asynchronous shortlist run. Progress is tracked in memory by the
+ * node running it and written here every few seconds together with a
+ * heartbeat; the final report is stored here so later readers do not trigger
+ * a recompute.
+ */
+@Entity
+@Table(name = "shortlist_runs")
+public class ShortlistRun {
+
+    // Pooled sequence (see V7__pooled_id_sequences.sql), not IDENTITY: a batch saves one run per job,
+    // and Hibernate can only batch inserts when it can assign IDs before executing them
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shortlist_runs_seq")
+    @SequenceGenerator(name = "shortlist_runs_seq", sequenceName = "shortlist_runs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // Set when the run is part of a multi-job ShortlistBatch
+    @Column(name = "batch_id")
+    private Long batchId;
+
+    @Column(name = "top_n", nullable = false)
+    private int topN;
+
+    @Column(name = "status", nullable = false)
+    private String status = "RUNNING"; // RUNNING, COMPLETED, FAILED
+
+    @Column(name = "total_applications")
+    private Integer totalApplications;
+
+    @Column(name = "parsed_count")
+    private Integer parsedCount;
+
+    @Column(name = "scored_count")
+    private Integer scoredCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    // Node running the run; the lease expires when the heartbeat stops
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    // Final ShortlistReport serialized as JSON
+    @Column(name = "report_json", columnDefinition = "TEXT")
+    private String reportJson;
+
+    @PrePersist
+    protected void onCreate() {
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+    }
+
+    // Constructors
+    public ShortlistRun() {
+    }
+
+    public ShortlistRun(Long jobId, int topN) {
+        this.jobId = jobId;
+        this.topN = topN;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(Long batchId) {
+        this.batchId = batchId;
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public void setTopN(int topN) {
+        this.topN = topN;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(Integer totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public Integer getParsedCount() {
+        return parsedCount;
+    }
+
+    public void setParsedCount(Integer parsedCount) {
+        this.parsedCount = parsedCount;
+    }
+
+    public Integer getScoredCount() {
+        return scoredCount;
+    }
+
+    public void setScoredCount(Integer scoredCount) {
+        this.scoredCount = scoredCount;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getReportJson() {
+        return reportJson;
+    }
+
+    public void setReportJson(String reportJson) {
+        this.reportJson = reportJson;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A skill taxonomy document that was applied, so every node converges on the
+ * most recently applied one and a change can be diffed against its predecessor.
+ */
+@Entity
+@Table(name = "skill_taxonomy_versions")
+public class SkillTaxonomyVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SkillTaxonomy.fingerprint() of the content
+    @Column(nullable = false, unique = true, length = 64)
+    private String fingerprint;
+
+    // The taxonomy JSON as applied
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // Last time this version became the current one (re-applying an old version bumps it)
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    // Constructors
+    public SkillTaxonomyVersion() {
+    }
+
+    public SkillTaxonomyVersion(String fingerprint, String content) {
+        this.fingerprint = fingerprint;
+        this.content = content;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+}
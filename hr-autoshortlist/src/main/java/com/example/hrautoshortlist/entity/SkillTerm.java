@@ -0,0 +1,40 @@
+package com.example.hrautoshortlist.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entry of the global skill vocabulary. The ID is the term's bit position in
+ * skill bitsets, so rows are never deleted or renumbered.
+ */
+@Entity
+@Table(name = "skill_vocabulary")
+public class SkillTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // Normalized (trimmed, lowercase) term
+    @Column(nullable = false, unique = true)
+    private String term;
+
+    public SkillTerm() {
+    }
+
+    public SkillTerm(String term) {
+        this.term = term;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public void setTerm(String term) {
+        this.term = term;
+    }
+}
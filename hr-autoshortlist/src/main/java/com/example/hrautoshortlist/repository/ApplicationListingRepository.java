@@ -0,0 +1,57 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Keyset-paginated application listing with optional filters, built as one
+ * statement per page (see ApplicationListingRepositoryImpl).
+ */
+public interface ApplicationListingRepository {
+
+    /**
+     * Listing filters; null fields do not restrict. parseStatus, educationLevel
+     * and skill match the stored CV parse, so applications without one are
+     * left out when any of them is set. search is a LIKE pattern matched
+     * against the lower-cased candidate name, email, phone and skills.
+     */
+    record Filter(Long jobId, Boolean shortlisted, String parseStatus, String educationLevel, String skill,
+            String search) {
+    }
+
+    enum Sort {
+        // Oldest first (application ID)
+        ID,
+        // Newest first
+        NEWEST,
+        // Best stored score first, then unscored applications oldest first
+        SCORE;
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * @return ID for a null or blank key
+         * @throws IllegalArgumentException for an unknown key
+         */
+        public static Sort of(String key) {
+            if (key == null || key.isBlank()) {
+                return ID;
+            }
+            return Arrays.stream(values())
+                    .filter(sort -> sort.key().equalsIgnoreCase(key.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown sort '" + key + "', expected one of id, newest, score"));
+        }
+    }
+
+    /**
+     * Up to limit rows after the cursor (the first page when it is null).
+     */
+    ListingPage<ApplicationResponseDTO> findListingPage(Filter filter, Sort sort, ListingCursor after, int limit);
+}
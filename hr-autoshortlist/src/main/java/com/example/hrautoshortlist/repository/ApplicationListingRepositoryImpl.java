@@ -0,0 +1,122 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeks past the cursor instead of using an OFFSET, so every page costs the
+ * same however deep into the listing it is. Each sort has a matching index:
+ * the primary key or (job_id, id) for ID order, and (score DESC, id) or
+ * (job_id, score DESC, id) for score order.
+ */
+class ApplicationListingRepositoryImpl implements ApplicationListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public ListingPage<ApplicationResponseDTO> findListingPage(Filter filter, Sort sort, ListingCursor after,
+            int limit) {
+        Map<String, Object> keyset = new HashMap<>();
+        if (after != null) {
+            keyset.put("afterId", after.id());
+        }
+
+        List<ApplicationResponseDTO> rows;
+        switch (sort) {
+            case NEWEST -> rows = query(filter, after != null ? "a.id < :afterId" : null, "a.id DESC", keyset,
+                    limit + 1);
+            case SCORE -> {
+                // Scored applications first, then the unscored ones; a cursor with no score is
+                // already in the unscored part. Each part is a plain index range, which a
+                // NULLS LAST ordering over both would not be.
+                rows = new ArrayList<>();
+                boolean inScored = after == null || after.score() != null;
+                if (inScored) {
+                    if (after != null) {
+                        keyset.put("afterScore", after.score());
+                    }
+                    rows.addAll(query(filter, after != null
+                            ? "a.score IS NOT NULL AND (a.score < :afterScore OR (a.score = :afterScore AND a.id > :afterId))"
+                            : "a.score IS NOT NULL", "a.score DESC, a.id", keyset, limit + 1));
+                    keyset.remove("afterScore");
+                    keyset.remove("afterId");
+                }
+                if (rows.size() <= limit) {
+                    rows.addAll(query(filter, inScored ? "a.score IS NULL" : "a.score IS NULL AND a.id > :afterId",
+                            "a.id", keyset, limit + 1 - rows.size()));
+                }
+            }
+            default -> rows = query(filter, after != null ? "a.id > :afterId" : null, "a.id", keyset, limit + 1);
+        }
+
+        // One row more than the page was fetched to know whether there is a next page
+        if (rows.size() <= limit) {
+            return new ListingPage<>(rows, null);
+        }
+        List<ApplicationResponseDTO> page = List.copyOf(rows.subList(0, limit));
+        ApplicationResponseDTO last = page.get(limit - 1);
+        ListingCursor next = new ListingCursor(sort.key(), sort == Sort.SCORE ? last.getScore() : null,
+                last.getId());
+        return new ListingPage<>(page, next.encode());
+    }
+
+    private List<ApplicationResponseDTO> query(Filter filter, String keysetCondition, String orderBy,
+            Map<String, Object> keyset, int maxResults) {
+        StringBuilder jpql = new StringBuilder(ApplicationRepository.RESPONSE_DTO_SELECT);
+        Map<String, Object> params = new HashMap<>(keyset);
+        List<String> conditions = new ArrayList<>();
+
+        if (filter.parseStatus() != null || filter.educationLevel() != null || filter.skill() != null) {
+            jpql.append("JOIN ParsedCV p ON p.application = a ");
+        }
+        if (filter.jobId() != null) {
+            conditions.add("a.job.id = :jobId");
+            params.put("jobId", filter.jobId());
+        }
+        if (filter.shortlisted() != null) {
+            conditions.add("a.shortlisted = :shortlisted");
+            params.put("shortlisted", filter.shortlisted());
+        }
+        if (filter.parseStatus() != null) {
+            conditions.add("p.parsingStatus = :parseStatus");
+            params.put("parseStatus", filter.parseStatus());
+        }
+        if (filter.educationLevel() != null) {
+            conditions.add("p.educationLevel = :educationLevel");
+            params.put("educationLevel", filter.educationLevel());
+        }
+        if (filter.skill() != null) {
+            conditions.add(":skill MEMBER OF p.extractedSkills");
+            params.put("skill", filter.skill());
+        }
+        if (filter.search() != null) {
+            conditions.add("(LOWER(c.fullName) LIKE :search ESCAPE '\\' "
+                    + "OR LOWER(c.email) LIKE :search ESCAPE '\\' "
+                    + "OR c.phone LIKE :search ESCAPE '\\' "
+                    + "OR LOWER(a.skills) LIKE :search ESCAPE '\\')");
+            params.put("search", filter.search());
+        }
+        if (keysetCondition != null) {
+            conditions.add(keysetCondition);
+        }
+
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append("ORDER BY ").append(orderBy);
+
+        TypedQuery<ApplicationResponseDTO> query = entityManager.createQuery(jpql.toString(),
+                ApplicationResponseDTO.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(maxResults).getResultList();
+    }
+}
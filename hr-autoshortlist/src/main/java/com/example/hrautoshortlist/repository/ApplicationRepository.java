@@ -1,13 +1,58 @@
 package com.example.hrautoshortlist.repository;
 
+import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
 import com.example.hrautoshortlist.entity.Application;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationListingRepository,
+        ApplicationScoreRepository {
+
+    // Listing rows built in the query, with the candidate and job joined in, so a
+    // listing is one statement instead of one per row for the @ManyToOne sides
+    String RESPONSE_DTO_SELECT = "SELECT new com.example.hrautoshortlist.dto.ApplicationResponseDTO("
+            + "a.id, c.fullName, c.email, c.phone, a.skills, "
+            + "CASE WHEN a.cvFilename IS NOT NULL THEN CONCAT('/uploads/', a.cvFilename) END, "
+            + "CASE WHEN a.letterFilename IS NOT NULL THEN CONCAT('/uploads/', a.letterFilename) END, "
+            + "j.id, j.title, c.id, a.shortlisted, a.score) "
+            + "FROM Application a JOIN a.candidateUser c JOIN a.job j ";
+
+    @Query(RESPONSE_DTO_SELECT + "WHERE j.id = :jobId ORDER BY a.id")
+    List<ApplicationResponseDTO> findResponseDTOsByJobId(@Param("jobId") Long jobId);
+
+    // Applicant counts of many jobs in one grouped statement; jobs without
+    // applications are absent
+    interface JobApplicantCount {
+        Long getJobId();
+
+        long getApplicants();
+    }
+
+    @Query("SELECT a.job.id AS jobId, COUNT(a) AS applicants FROM Application a "
+            + "WHERE a.job.id IN :jobIds GROUP BY a.job.id")
+    List<JobApplicantCount> countByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    long countByJob_Id(Long jobId);
+
+    @Query("SELECT a.job.id FROM Application a WHERE a.id = :id")
+    Optional<Long> findJobIdById(@Param("id") Long id);
+
+    // Returns the number of rows deleted, so a concurrent delete of the same
+    // application is only counted once (caller provides the transaction)
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.id = :id")
+    int deleteReturningCount(@Param("id") Long id);
 
     // FIXED: Changed from findByJobId to findByJob_Id (Spring Data JPA syntax for
     // nested properties)
@@ -20,4 +65,36 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     List<Application> findByCandidateUser_Id(Long candidateUserId);
     // NEW: For cascading delete
     void deleteByJob_Id(Long jobId);
+
+    // Set-based shortlist updates (caller provides the transaction)
+    @Modifying
+    @Query("UPDATE Application a SET a.shortlisted = false WHERE a.job.id = :jobId AND a.shortlisted = true")
+    int clearShortlistForJob(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("UPDATE Application a SET a.shortlisted = true WHERE a.job.id = :jobId AND a.id IN :ids")
+    int markShortlisted(@Param("jobId") Long jobId, @Param("ids") Collection<Long> ids);
+
+    // Store the materialized score of one application
+    @Modifying
+    @Transactional
+    @Query("UPDATE Application a SET a.score = :score, a.skillsScore = :skillsScore, "
+            + "a.experienceScore = :experienceScore, a.educationScore = :educationScore, "
+            + "a.keywordsScore = :keywordsScore, a.scoredCriteriaVersion = :criteriaVersion, "
+            + "a.scoredAt = :scoredAt WHERE a.id = :id")
+    int updateScore(@Param("id") Long id,
+            @Param("score") Double score,
+            @Param("skillsScore") Double skillsScore,
+            @Param("experienceScore") Double experienceScore,
+            @Param("educationScore") Double educationScore,
+            @Param("keywordsScore") Double keywordsScore,
+            @Param("criteriaVersion") Long criteriaVersion,
+            @Param("scoredAt") LocalDateTime scoredAt);
+
+    // Best stored scores of a job, served by idx_applications_job_score
+    @Query("SELECT a FROM Application a WHERE a.job.id = :jobId AND a.score IS NOT NULL "
+            + "ORDER BY a.score DESC, a.id ASC")
+    List<Application> findTopScored(@Param("jobId") Long jobId, Pageable pageable);
+
+    long countByJob_IdAndScoreIsNull(Long jobId);
 }
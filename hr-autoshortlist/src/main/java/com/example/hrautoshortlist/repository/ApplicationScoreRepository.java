@@ -0,0 +1,25 @@
+package com.example.hrautoshortlist.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes the stored scores of many applications at once (see
+ * ApplicationScoreRepositoryImpl), e.g. at the end of a shortlist run.
+ */
+public interface ApplicationScoreRepository {
+
+    /**
+     * Score of one application; the component scores are null for fallback scores.
+     */
+    record StoredScore(Long applicationId, double score, Double skillsScore, Double experienceScore,
+            Double educationScore, Double keywordsScore) {
+    }
+
+    /**
+     * Store the given scores, all computed against the same criteria version.
+     *
+     * @return number of applications updated (deleted ones are skipped)
+     */
+    int storeScores(List<StoredScore> scores, Long criteriaVersion, LocalDateTime scoredAt);
+}
@@ -0,0 +1,56 @@
+package com.example.hrautoshortlist.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One UPDATE per application, sent as JDBC batches: a run over a thousand
+ * applications costs a few round trips instead of a thousand. Runs in the
+ * caller's transaction (JdbcTemplate uses its connection).
+ */
+class ApplicationScoreRepositoryImpl implements ApplicationScoreRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_SCORE = "UPDATE applications SET score = ?, skills_score = ?, "
+            + "experience_score = ?, education_score = ?, keywords_score = ?, scored_criteria_version = ?, "
+            + "scored_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ApplicationScoreRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int storeScores(List<StoredScore> scores, Long criteriaVersion, LocalDateTime scoredAt) {
+        if (scores.isEmpty()) {
+            return 0;
+        }
+        Timestamp at = Timestamp.valueOf(scoredAt);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SCORE, scores, BATCH_SIZE, (ps, score) -> {
+            ps.setDouble(1, score.score());
+            ps.setObject(2, score.skillsScore(), Types.DOUBLE);
+            ps.setObject(3, score.experienceScore(), Types.DOUBLE);
+            ps.setObject(4, score.educationScore(), Types.DOUBLE);
+            ps.setObject(5, score.keywordsScore(), Types.DOUBLE);
+            ps.setObject(6, criteriaVersion, Types.BIGINT);
+            ps.setTimestamp(7, at);
+            ps.setLong(8, score.applicationId());
+        });
+
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // The driver may report SUCCESS_NO_INFO (-2) instead of a row count
+                updated += count > 0 ? count : count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.CvParseTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CvParseTaskRepository extends JpaRepository<CvParseTask, Long> {
+
+    Optional<CvParseTask> findByApplicationId(Long applicationId);
+
+    /**
+     * Lock up to {@code limit} due PENDING tasks, skipping rows another node has
+     * already locked. Must run inside the transaction that marks them claimed.
+     */
+    @Query(value = "SELECT * FROM cv_parse_tasks WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<CvParseTask> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Hand IN_PROGRESS tasks whose worker went away (node crash or restart) back to the queue
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CvParseTask t SET t.status = 'PENDING', t.lockedBy = null, t.lockedAt = null, "
+            + "t.updatedAt = :now WHERE t.status = 'IN_PROGRESS' AND t.lockedAt < :cutoff")
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,67 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.CvReparseJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CvReparseJobRepository extends JpaRepository<CvReparseJob, Long> {
+
+    Optional<CvReparseJob> findFirstByOrderByIdDesc();
+
+    List<CvReparseJob> findByStatus(String status);
+
+    boolean existsByStatus(String status);
+
+    /**
+     * Take over a RUNNING job that nobody holds or whose holder stopped sending
+     * heartbeats. Returns 1 if this worker now holds the job.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CvReparseJob j SET j.lockedBy = :worker, j.heartbeatAt = :now, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND (j.lockedBy IS NULL OR j.heartbeatAt < :cutoff)")
+    int claim(@Param("id") Long id, @Param("worker") String worker, @Param("now") LocalDateTime now,
+            @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Record one handled parse and renew the lease. Returns 0 if the job was
+     * cancelled or taken over meanwhile, so the worker stops.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CvReparseJob j SET j.lastParsedCvId = :parsedCvId, j.processedCount = j.processedCount + 1, "
+            + "j.reparsedCount = j.reparsedCount + :reparsed, j.failedCount = j.failedCount + :failed, "
+            + "j.heartbeatAt = :now, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.lockedBy = :worker")
+    int checkpoint(@Param("id") Long id, @Param("worker") String worker, @Param("parsedCvId") Long parsedCvId,
+            @Param("reparsed") int reparsed, @Param("failed") int failed, @Param("now") LocalDateTime now);
+
+    /**
+     * End a job held by this worker
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CvReparseJob j SET j.status = :status, j.error = :error, j.lockedBy = null, "
+            + "j.completedAt = :now, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.lockedBy = :worker")
+    int finish(@Param("id") Long id, @Param("worker") String worker, @Param("status") String status,
+            @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * Stop a RUNNING job; its worker notices at the next checkpoint
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CvReparseJob j SET j.status = 'CANCELLED', j.lockedBy = null, j.completedAt = :now, "
+            + "j.updatedAt = :now WHERE j.id = :id AND j.status = 'RUNNING'")
+    int cancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
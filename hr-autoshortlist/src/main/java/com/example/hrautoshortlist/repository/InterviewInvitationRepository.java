@@ -2,8 +2,14 @@ package com.example.hrautoshortlist.repository;
 
 import com.example.hrautoshortlist.entity.InterviewInvitation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +17,11 @@ public interface InterviewInvitationRepository extends JpaRepository<InterviewIn
     List<InterviewInvitation> findByCandidateUser_Id(Long candidateUserId);
 
     List<InterviewInvitation> findByJob_Id(Long jobId);
+
+    // Record the outcome of a chunk of sent emails in one statement
+    @Modifying
+    @Transactional
+    @Query("UPDATE InterviewInvitation i SET i.status = :status, i.sentAt = :now WHERE i.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") String status,
+            @Param("now") LocalDateTime now);
 }
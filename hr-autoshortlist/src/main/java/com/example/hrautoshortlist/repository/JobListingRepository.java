@@ -0,0 +1,25 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.enums.JobType;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated job listing with optional filters (see
+ * JobListingRepositoryImpl).
+ */
+public interface JobListingRepository {
+
+    /**
+     * Listing filters; null fields do not restrict.
+     */
+    record Filter(Boolean active, String department, JobType jobType) {
+    }
+
+    /**
+     * Up to limit jobs, with their skills loaded, after the given job ID (the
+     * first page when it is null), oldest first or newest first.
+     */
+    List<Job> findListingPage(Filter filter, boolean newestFirst, Long afterId, int limit);
+}
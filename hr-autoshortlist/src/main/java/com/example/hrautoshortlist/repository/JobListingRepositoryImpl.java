@@ -0,0 +1,68 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeks past the last job ID of the previous page. The page's IDs are
+ * selected first and the jobs then loaded with their skills by ID, since
+ * limiting a query that fetch-joins a collection would page in memory.
+ */
+class JobListingRepositoryImpl implements JobListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Job> findListingPage(Filter filter, boolean newestFirst, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT j.id FROM Job j ");
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+
+        if (filter.active() != null) {
+            conditions.add("j.active = :active");
+            params.put("active", filter.active());
+        }
+        if (filter.department() != null) {
+            conditions.add("j.department = :department");
+            params.put("department", filter.department());
+        }
+        if (filter.jobType() != null) {
+            conditions.add("j.jobType = :jobType");
+            params.put("jobType", filter.jobType());
+        }
+        if (afterId != null) {
+            conditions.add(newestFirst ? "j.id < :afterId" : "j.id > :afterId");
+            params.put("afterId", afterId);
+        }
+
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append(newestFirst ? "ORDER BY j.id DESC" : "ORDER BY j.id");
+
+        TypedQuery<Long> idQuery = entityManager.createQuery(jpql.toString(), Long.class);
+        params.forEach(idQuery::setParameter);
+        List<Long> ids = idQuery.setMaxResults(limit).getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Job> jobs = entityManager
+                .createQuery("SELECT j FROM Job j LEFT JOIN FETCH j.skills WHERE j.id IN :ids", Job.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Comparator<Job> byId = Comparator.comparing(Job::getId);
+        return jobs.stream()
+                .sorted(newestFirst ? byId.reversed() : byId)
+                .toList();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.hrautoshortlist.repository;
 
 import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.enums.JobType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,9 +10,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobListingRepository {
     List<Job> findByActiveTrue();
 
+    // Job board listing with the skills collection fetched in the same statement
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.skills WHERE j.active = true ORDER BY j.id")
+    List<Job> findActiveWithSkills();
+
+    // Keep the denormalized applicant count in step (caller provides the transaction)
+    @Modifying
+    @Query("UPDATE Job j SET j.applicantCount = j.applicantCount + :delta WHERE j.id = :jobId")
+    int adjustApplicantCount(@Param("jobId") Long jobId, @Param("delta") int delta);
+
+    // Recount the applicant_count of every job that has drifted from its applications
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE jobs j SET applicant_count = c.n FROM ("
+            + "SELECT jb.id, COUNT(a.id) AS n FROM jobs jb LEFT JOIN applications a ON a.job_id = jb.id GROUP BY jb.id"
+            + ") c WHERE c.id = j.id AND j.applicant_count <> c.n", nativeQuery = true)
+    int reconcileApplicantCounts();
+
     // Increment view count
     @Modifying
     @Transactional
@@ -22,4 +40,19 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     long countByActiveTrue();
 
     long countByActiveFalse();
+
+    // Job and view counts per job type and status, for the dashboard
+    interface JobTypeStatistics {
+        JobType getJobType();
+
+        Boolean getActive();
+
+        long getJobs();
+
+        long getViews();
+    }
+
+    @Query("SELECT j.jobType AS jobType, j.active AS active, COUNT(j) AS jobs, "
+            + "COALESCE(SUM(j.viewCount), 0) AS views FROM Job j GROUP BY j.jobType, j.active")
+    List<JobTypeStatistics> statisticsByTypeAndStatus();
 }
@@ -0,0 +1,38 @@
+package com.example.hrautoshortlist.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a listing page: the sort it belongs to and
+ * that row's sort key (ID, plus score when sorting by score). Handed to
+ * clients as an opaque token and passed back to get the next page.
+ */
+public record ListingCursor(String sort, Double score, long id) {
+
+    public String encode() {
+        String text = sort + ":" + id + (score != null ? ":" + score : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return null for a null or blank token (first page)
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort
+     */
+    public static ListingCursor decode(String token, String sort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length < 2 || parts.length > 3 || !parts[0].equals(sort)) {
+                throw new IllegalArgumentException("Cursor does not belong to sort '" + sort + "'");
+            }
+            return new ListingCursor(sort, parts.length == 3 ? Double.valueOf(parts[2]) : null,
+                    Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // Also covers bad Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.hrautoshortlist.repository;
 
 import com.example.hrautoshortlist.entity.ParsedCV;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +22,31 @@ public interface ParsedCVRepository extends JpaRepository<ParsedCV, Long> {
      * Check if CV has been parsed for an application
      */
     boolean existsByApplicationId(Long applicationId);
+
+    /**
+     * Any successful parse of the same file by the given extractor version
+     */
+    Optional<ParsedCV> findFirstByContentHashAndParserVersionAndParsingStatus(String contentHash,
+            Integer parserVersion, String parsingStatus);
+
+    /**
+     * IDs of successful parses after the given ID, in ID order (keyset paging)
+     */
+    @Query("SELECT p.id FROM ParsedCV p WHERE p.parsingStatus = 'SUCCESS' AND p.id > :afterId ORDER BY p.id")
+    List<Long> findSuccessfulIdsAfter(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * IDs of parses stored by an extractor older than the given version, after
+     * the given ID, in ID order
+     */
+    @Query("SELECT p.id FROM ParsedCV p WHERE (p.parserVersion IS NULL OR p.parserVersion < :version) "
+            + "AND p.id > :afterId ORDER BY p.id")
+    List<Long> findStaleIdsAfter(@Param("version") Integer version, @Param("afterId") Long afterId,
+            Pageable page);
+
+    @Query("SELECT COUNT(p) FROM ParsedCV p WHERE p.parserVersion IS NULL OR p.parserVersion < :version")
+    long countStale(@Param("version") Integer version);
+
+    @Query("SELECT p.application.id FROM ParsedCV p WHERE p.id = :id")
+    Optional<Long> findApplicationIdById(@Param("id") Long id);
 }
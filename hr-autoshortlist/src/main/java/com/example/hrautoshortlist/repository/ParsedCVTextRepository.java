@@ -0,0 +1,9 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.ParsedCVText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ParsedCVTextRepository extends JpaRepository<ParsedCVText, Long> {
+}
@@ -0,0 +1,46 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.ShortlistBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ShortlistBatchRepository extends JpaRepository<ShortlistBatch, Long> {
+
+    /**
+     * Renew the lease of a batch held by this worker. Returns 0 if the batch
+     * is no longer RUNNING under this worker.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistBatch b SET b.heartbeatAt = :now "
+            + "WHERE b.id = :id AND b.status = 'RUNNING' AND b.lockedBy = :worker")
+    int heartbeat(@Param("id") Long id, @Param("worker") String worker, @Param("now") LocalDateTime now);
+
+    /**
+     * End a batch held by this worker. Returns 0 if it was closed as abandoned
+     * meanwhile, in which case that status stands.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistBatch b SET b.status = :status, b.lockedBy = null, b.completedAt = :now, "
+            + "b.heartbeatAt = :now WHERE b.id = :id AND b.status = 'RUNNING' AND b.lockedBy = :worker")
+    int finish(@Param("id") Long id, @Param("worker") String worker, @Param("status") String status,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Close RUNNING batches whose node stopped sending heartbeats; their
+     * remaining runs are failed separately.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistBatch b SET b.status = 'COMPLETED_WITH_ERRORS', b.completedAt = :now "
+            + "WHERE b.status = 'RUNNING' AND (b.heartbeatAt IS NULL OR b.heartbeatAt < :cutoff)")
+    int closeAbandoned(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,85 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.ShortlistRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ShortlistRunRepository extends JpaRepository<ShortlistRun, Long> {
+
+    /**
+     * Runs for a job, newest first
+     */
+    List<ShortlistRun> findByJobIdOrderByStartedAtDesc(Long jobId);
+
+    /**
+     * Runs of a batch, in the order they execute
+     */
+    List<ShortlistRun> findByBatchIdOrderByIdAsc(Long batchId);
+
+    /**
+     * Start a QUEUED run of a batch under this worker's lease. Returns 0 if
+     * the run is no longer QUEUED (failed with its abandoned batch).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistRun r SET r.status = 'RUNNING', r.startedAt = :now, r.lockedBy = :worker, "
+            + "r.heartbeatAt = :now WHERE r.id = :id AND r.status = 'QUEUED'")
+    int startQueued(@Param("id") Long id, @Param("worker") String worker, @Param("now") LocalDateTime now);
+
+    /**
+     * Store the progress of a run held by this worker and renew its lease.
+     * Returns 0 if the run is no longer RUNNING under this worker.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistRun r SET r.totalApplications = :total, r.parsedCount = :parsed, "
+            + "r.scoredCount = :scored, r.heartbeatAt = :now "
+            + "WHERE r.id = :id AND r.status = 'RUNNING' AND r.lockedBy = :worker")
+    int heartbeat(@Param("id") Long id, @Param("worker") String worker, @Param("total") int total,
+            @Param("parsed") int parsed, @Param("scored") int scored, @Param("now") LocalDateTime now);
+
+    /**
+     * Store the outcome of a run held by this worker. Returns 0 if the run is
+     * no longer RUNNING under this worker (its lease ran out and it was failed
+     * meanwhile), in which case nothing is written.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistRun r SET r.status = :status, r.error = :error, r.reportJson = :report, "
+            + "r.totalApplications = :total, r.parsedCount = :parsed, r.scoredCount = :scored, "
+            + "r.lockedBy = null, r.completedAt = :now, r.heartbeatAt = :now "
+            + "WHERE r.id = :id AND r.status = 'RUNNING' AND r.lockedBy = :worker")
+    int finish(@Param("id") Long id, @Param("worker") String worker, @Param("status") String status,
+            @Param("error") String error, @Param("report") String report, @Param("total") int total,
+            @Param("parsed") int parsed, @Param("scored") int scored, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail RUNNING runs whose node stopped sending heartbeats (crash or
+     * restart); nothing else would ever finish them.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistRun r SET r.status = 'FAILED', r.error = :error, r.completedAt = :now "
+            + "WHERE r.status = 'RUNNING' AND (r.heartbeatAt IS NULL OR r.heartbeatAt < :cutoff)")
+    int failAbandoned(@Param("cutoff") LocalDateTime cutoff, @Param("error") String error,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Fail runs still QUEUED in batches that are no longer running, i.e.
+     * batches closed because their node stopped before reaching these jobs.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShortlistRun r SET r.status = 'FAILED', r.error = :error, r.completedAt = :now "
+            + "WHERE r.status = 'QUEUED' AND r.batchId IN "
+            + "(SELECT b.id FROM ShortlistBatch b WHERE b.status <> 'RUNNING')")
+    int failQueuedInClosedBatches(@Param("error") String error, @Param("now") LocalDateTime now);
+}
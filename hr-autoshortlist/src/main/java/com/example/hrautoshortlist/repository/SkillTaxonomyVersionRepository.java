@@ -0,0 +1,18 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.SkillTaxonomyVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SkillTaxonomyVersionRepository extends JpaRepository<SkillTaxonomyVersion, Long> {
+
+    /**
+     * The most recently applied taxonomy
+     */
+    Optional<SkillTaxonomyVersion> findFirstByOrderByAppliedAtDescIdDesc();
+
+    Optional<SkillTaxonomyVersion> findByFingerprint(String fingerprint);
+}
@@ -0,0 +1,33 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.SkillTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SkillTermRepository extends JpaRepository<SkillTerm, Integer> {
+
+    /**
+     * Find a vocabulary entry by its normalized term
+     */
+    Optional<SkillTerm> findByTerm(String term);
+
+    /**
+     * Entries added after the given ID, in ID order
+     */
+    List<SkillTerm> findByIdGreaterThanOrderByIdAsc(Integer id);
+
+    /**
+     * Lock the vocabulary against inserts by other transactions until this one
+     * ends. Inserts are rare (new criteria terms), and serializing them makes
+     * IDs commit in ascending order.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE skill_vocabulary IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForInsert();
+}
@@ -67,6 +67,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/applications/all", "/api/applications/shortlisted").hasRole("ADMIN")
                         .requestMatchers("/api/shortlist/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/applications/ai/shortlist/**").hasRole("ADMIN")
+                        .requestMatchers("/api/applications/ai/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/applications/*/score-explanation").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/applications/*/parse-status").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/applications/*/cv-text").hasRole("ADMIN")
 
                         // Explicitly protect DELETE/PUT/PATCH for Admin
                         .requestMatchers(HttpMethod.DELETE, "/api/jobs/**", "/api/applications/**").hasRole("ADMIN")
@@ -111,7 +115,12 @@ public class SecurityConfig {
                 "Origin",
                 "X-Requested-With"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList(
+                "Authorization",
+                "X-Parse-Cache-Hits",
+                "X-Parse-Cache-Misses",
+                "X-Parse-Cache-Hit-Ratio",
+                "X-Next-Cursor"));
         configuration.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
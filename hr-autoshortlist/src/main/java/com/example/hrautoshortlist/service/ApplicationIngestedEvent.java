@@ -0,0 +1,7 @@
+package com.example.hrautoshortlist.service;
+
+/**
+ * Published once a submitted application is stored and its CV, if any, parsed.
+ */
+public record ApplicationIngestedEvent(Long applicationId) {
+}
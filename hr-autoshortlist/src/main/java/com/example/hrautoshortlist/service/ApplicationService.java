@@ -1,19 +1,31 @@
 package com.example.hrautoshortlist.service;
 
+import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
 import com.example.hrautoshortlist.entity.Application;
 import com.example.hrautoshortlist.entity.CandidateUser;
 import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.repository.ApplicationListingRepository;
 import com.example.hrautoshortlist.repository.ApplicationRepository;
+import com.example.hrautoshortlist.repository.ApplicationScoreRepository.StoredScore;
 import com.example.hrautoshortlist.repository.CandidateUserRepository;
 import com.example.hrautoshortlist.repository.JobRepository;
+import com.example.hrautoshortlist.repository.ListingCursor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -33,6 +45,24 @@ public class ApplicationService {
     @Autowired
     private FileStorageService storageService;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SkillTaxonomyService skillTaxonomyService;
+
+    @Autowired
+    private CvParseQueueService cvParseQueueService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${shortlist.listing.default-page-size:100}")
+    private int defaultPageSize = 100;
+
+    @Value("${shortlist.listing.max-page-size:500}")
+    private int maxPageSize = 500;
+
     public Application submitApplication(
             Long jobId,
             Long candidateUserId,
@@ -99,26 +129,68 @@ public class ApplicationService {
         }
 
         logger.info("Saving application to database...");
-        Application saved = applicationRepository.save(application);
+        boolean parseCv = cvFilename != null;
+        Application saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                Application inserted = applicationRepository.save(application);
+                jobRepository.adjustApplicantCount(jobId, 1);
+                if (parseCv) {
+                    // Committed with the application, so no CV is left without a parse task
+                    cvParseQueueService.addTask(inserted.getId());
+                }
+                return inserted;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // uk_applications_candidate_job: a concurrent submit got past the check above first
+            logger.warn("✗ Duplicate application - Candidate: {}, Job: {}", candidateUserId, jobId);
+            throw new IllegalStateException("You have already applied for this job");
+        }
         logger.info("✓ Application saved successfully with ID: {}", saved.getId());
 
-        // Parse CV automatically if uploaded
-        if (cvFilename != null) {
-            try {
-                logger.info("Parsing CV for application {}", saved.getId());
-                cvParsingService.parseAndSaveCV(saved, false);
-                logger.info("✓ CV parsed successfully");
-            } catch (Exception e) {
-                logger.error("Failed to parse CV for application {}, will retry during shortlisting", saved.getId(), e);
-                // Don't fail the application submission if CV parsing fails
-            }
+        if (parseCv) {
+            // Parsed in the background; the queue publishes ApplicationIngestedEvent once it is done
+            cvParseQueueService.wakeUp();
+        } else {
+            // Score against the job criteria in the background (fallback scoring without a parsed CV)
+            eventPublisher.publishEvent(new ApplicationIngestedEvent(saved.getId()));
         }
 
         return saved;
     }
 
-    @Autowired
-    private CVParsingService cvParsingService;
+    /**
+     * Listing rows of a job's applications, fetched in a single query
+     */
+    public List<ApplicationResponseDTO> getApplicationResponsesForJob(Long jobId) {
+        return applicationRepository.findResponseDTOsByJobId(jobId);
+    }
+
+    /**
+     * One page of applications matching the filter. A skill matches by its
+     * taxonomy name, so a synonym finds the same applications; search text
+     * matches anywhere in the candidate's name, email, phone or skills, ignoring
+     * case.
+     *
+     * @param limit page size, or null for the configured default
+     * @throws IllegalArgumentException for an unknown sort, a bad limit, or a
+     *                                  cursor that is malformed or from another sort
+     */
+    public ListingPage<ApplicationResponseDTO> listApplications(ApplicationListingRepository.Filter filter,
+            String sort, String cursor, Integer limit) {
+        ApplicationListingRepository.Sort order = ApplicationListingRepository.Sort.of(sort);
+        String skill = filter.skill();
+        if (skill != null) {
+            String canonical = skillTaxonomyService.current().canonicalSkill(skill);
+            skill = canonical != null ? canonical : skill.trim();
+        }
+        String search = filter.search() == null ? null
+                : "%" + filter.search().toLowerCase(Locale.ROOT).replaceAll("[\\\\%_]", "\\\\$0") + "%";
+        ApplicationListingRepository.Filter resolved = new ApplicationListingRepository.Filter(filter.jobId(),
+                filter.shortlisted(), filter.parseStatus(), filter.educationLevel(), skill, search);
+        return applicationRepository.findListingPage(resolved, order, ListingCursor.decode(cursor, order.key()),
+                ListingPage.pageSize(limit, defaultPageSize, maxPageSize));
+    }
 
     public List<Application> getApplicationsForJob(Long jobId) {
         logger.info("Fetching applications for job ID: {}", jobId);
@@ -141,7 +213,33 @@ public class ApplicationService {
             throw new IllegalArgumentException("Application not found with ID: " + id);
         }
         logger.info("Deleting application ID: {}", id);
-        applicationRepository.deleteById(id);
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.findJobIdById(id)
+                .filter(jobId -> applicationRepository.deleteReturningCount(id) == 1)
+                .ifPresent(jobId -> jobRepository.adjustApplicantCount(jobId, -1)));
+    }
+
+    /**
+     * Store the scores of a shortlist run and replace the job's shortlist with
+     * its winners, in one transaction: the scores go out as JDBC batches, the
+     * flags as two set-based updates.
+     */
+    @Transactional
+    public void storeShortlist(Long jobId, List<StoredScore> scores, Long criteriaVersion,
+            List<Long> shortlistedIds) {
+        int stored = applicationRepository.storeScores(scores, criteriaVersion, LocalDateTime.now());
+        logger.info("Job {}: stored {} scores", jobId, stored);
+        replaceShortlist(jobId, shortlistedIds);
+    }
+
+    /**
+     * Replace a job's shortlist in one transaction: clear every flag for the job,
+     * then flag the given applications.
+     */
+    @Transactional
+    public void replaceShortlist(Long jobId, List<Long> shortlistedIds) {
+        int cleared = applicationRepository.clearShortlistForJob(jobId);
+        int marked = shortlistedIds.isEmpty() ? 0 : applicationRepository.markShortlisted(jobId, shortlistedIds);
+        logger.info("Job {} shortlist replaced: {} cleared, {} marked", jobId, cleared, marked);
     }
 
     public boolean toggleShortlist(Long applicationId) {
@@ -1,18 +1,37 @@
 package com.example.hrautoshortlist.service;
 
 import com.example.hrautoshortlist.dto.ParsedCVData;
+import com.example.hrautoshortlist.dto.ScoreBreakdown;
+import com.example.hrautoshortlist.dto.ShortlistReport;
 import com.example.hrautoshortlist.dto.ShortlistResult;
 import com.example.hrautoshortlist.entity.Application;
 import com.example.hrautoshortlist.entity.Job;
 import com.example.hrautoshortlist.entity.JobCriteria;
+import com.example.hrautoshortlist.entity.JobCriteriaChangedEvent;
 import com.example.hrautoshortlist.repository.ApplicationRepository;
+import com.example.hrautoshortlist.repository.ApplicationScoreRepository.StoredScore;
 import com.example.hrautoshortlist.repository.JobCriteriaRepository;
 import com.example.hrautoshortlist.repository.JobRepository;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -28,118 +47,261 @@ public class ApplicationShortlistService {
     private final JobRepository jobRepository;
     private final JobCriteriaRepository jobCriteriaRepository;
     private final CVParsingService cvParsingService;
+    private final ApplicationService applicationService;
+    private final CompiledCriteriaCache compiledCriteriaCache;
+    private final ExecutorService ioExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    // Creates default criteria in a transaction of its own (see ensureCriteria)
+    private final TransactionTemplate criteriaTransaction;
+
+    // Upper bound on applications of one job being parsed/scored at the same time
+    @Value("${shortlist.max-concurrency-per-job:8}")
+    private int maxConcurrencyPerJob;
+
+    // Jobs with a background rescore queued but not started yet
+    private final Set<Long> pendingRescores = ConcurrentHashMap.newKeySet();
 
     public ApplicationShortlistService(ApplicationRepository applicationRepository,
             JobRepository jobRepository,
             JobCriteriaRepository jobCriteriaRepository,
-            CVParsingService cvParsingService) {
+            CVParsingService cvParsingService,
+            ApplicationService applicationService,
+            CompiledCriteriaCache compiledCriteriaCache,
+            @Qualifier("cvIoExecutor") ExecutorService ioExecutor,
+            TransactionTemplate transactionTemplate) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.jobCriteriaRepository = jobCriteriaRepository;
         this.cvParsingService = cvParsingService;
+        this.applicationService = applicationService;
+        this.compiledCriteriaCache = compiledCriteriaCache;
+        this.ioExecutor = ioExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.criteriaTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.criteriaTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
      * Shortlist top N applications for a job based on intelligent scoring.
+     * Every result is returned, best first; the top N are marked shortlisted.
      */
     public List<ShortlistResult> shortlistApplications(Long jobId, int topN) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        return runShortlist(jobId, topN).getResults();
+    }
 
-        List<Application> applications = applicationRepository.findByJob_Id(jobId);
-        logger.info("Shortlisting {} applications for job {}, selecting top {}", applications.size(), jobId, topN);
+    /**
+     * Shortlist top N applications and report how many CV parses were served
+     * from the stored results.
+     */
+    public ShortlistReport runShortlist(Long jobId, int topN) {
+        return runShortlist(jobId, topN, ShortlistProgressListener.NONE);
+    }
 
-        // RESET previous shortlists for this job
-        for (Application app : applications) {
-            if (app.isShortlisted()) {
-                app.setShortlisted(false);
-                applicationRepository.save(app);
+    /**
+     * Shortlist top N applications, reporting progress to the given listener.
+     * Safe to call off the request thread: everything the workers read is loaded
+     * inside a transaction first.
+     */
+    public ShortlistReport runShortlist(Long jobId, int topN, ShortlistProgressListener listener) {
+        ShortlistInput input = loadInput(jobId);
+        Job job = input.job();
+        List<Application> applications = input.applications();
+        CompiledCriteria compiled = input.criteria();
+        logger.info("Shortlisting {} applications for job {}, selecting top {}", applications.size(), jobId, topN);
+        listener.onStarted(applications.size());
+
+        // Parse and score in parallel; each slot keeps the application's position so the
+        // ranking is identical to scoring them one after another
+        ShortlistResult[] scored = new ShortlistResult[applications.size()];
+        AtomicInteger cacheHits = new AtomicInteger();
+        AtomicInteger cacheMisses = new AtomicInteger();
+        Semaphore jobPermits = new Semaphore(Math.max(1, maxConcurrencyPerJob));
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(applications.size());
+
+        for (int i = 0; i < applications.size(); i++) {
+            int slot = i;
+            Application app = applications.get(i);
+            jobPermits.acquireUninterruptibly();
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    scored[slot] = scoreApplication(app, job, compiled, cacheHits, cacheMisses, listener);
+                } finally {
+                    jobPermits.release();
+                }
+            }, ioExecutor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).join();
+
+        // Pick the top N with a bounded heap, then rank the rest after them: callers get every
+        // result sorted by score, as before; only the shortlist flags depend on the top N
+        List<ShortlistResult> all = Arrays.asList(scored);
+        Comparator<ShortlistResult> byScore = Comparator.comparingDouble(ShortlistResult::getComputedScore).reversed();
+        List<Integer> topIndices = TopNSelector.topIndices(all, topN, byScore);
+
+        boolean[] inTop = new boolean[all.size()];
+        List<ShortlistResult> results = new ArrayList<>(all.size());
+        List<Long> shortlistedIds = new ArrayList<>(topIndices.size());
+        for (int index : topIndices) {
+            ShortlistResult result = all.get(index);
+            result.setShortlisted(true);
+            if (result.getBreakdown() != null) {
+                // Only the returned top N get a readable explanation
+                result.setReason(explain(result.getBreakdown(), compiled));
             }
+            results.add(result);
+            shortlistedIds.add(result.getApplicationId());
+            inTop[index] = true;
         }
+        List<ShortlistResult> rest = new ArrayList<>(all.size() - topIndices.size());
+        for (int i = 0; i < all.size(); i++) {
+            if (!inTop[i]) {
+                rest.add(all.get(i));
+            }
+        }
+        // Stable, so equal scores keep their application order
+        rest.sort(byScore);
+        results.addAll(rest);
+
+        // PERSIST: every score, then reset and mark the winners, in one transaction
+        List<StoredScore> scores = new ArrayList<>(all.size());
+        for (ShortlistResult result : all) {
+            if (result.getBreakdown() != null) {
+                scores.add(storedScore(result.getApplicationId(), result.getBreakdown()));
+            }
+        }
+        applicationService.storeShortlist(jobId, scores, compiled.getVersion(), shortlistedIds);
 
-        // Get or create job criteria
-        JobCriteria criteria = jobCriteriaRepository.findByJobId(jobId)
-                .orElseGet(() -> createDefaultCriteria(job));
-
-        List<ShortlistResult> results = new ArrayList<>();
-
-        for (Application app : applications) {
-            try {
-                // ✨ CHANGED: Always re-parse to ensure the latest AI logic is applied
-                // This fixes the issue where old (wrong) "Masters" detections were stuck in the
-                // database
-                logger.info("Updating AI analysis for application {}", app.getId());
-                cvParsingService.parseAndSaveCV(app, true); // Added 'true' to force refresh
-                ParsedCVData cvData = cvParsingService.getParsedCVData(app.getId());
-
-                // Compute score
-                double score = computeEnhancedScore(app, job, criteria, cvData);
-
-                String applicantName = app.getCandidateUser() != null ? app.getCandidateUser().getFullName()
-                        : "Unknown";
-                String applicantEmail = app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "";
+        logger.info("Shortlisting complete. Top score: {}, parse cache {} hits / {} misses",
+                topIndices.isEmpty() ? 0 : results.get(0).getComputedScore(), cacheHits, cacheMisses);
 
-                String reason = buildScoreReason(app, job, criteria, cvData, score);
+        return new ShortlistReport(jobId, results, cacheHits.get(), cacheMisses.get());
+    }
 
-                results.add(new ShortlistResult(
-                        app.getId(),
-                        applicantName,
-                        applicantEmail,
-                        score,
-                        false, // Will set shortlisted flag below
-                        reason));
+    /**
+     * Load the job, its applications and compiled criteria, initializing every
+     * lazy association the scorer reads. The criteria are compiled once the
+     * read transaction is over (see CompiledCriteriaCache.get).
+     */
+    private ShortlistInput loadInput(Long jobId) {
+        ensureCriteria(jobId);
+        LoadedJob loaded = transactionTemplate.execute(status -> {
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+            Hibernate.initialize(job.getSkills());
+            return new LoadedJob(job, applicationRepository.findByJob_Id(jobId), criteriaFor(job));
+        });
+        return new ShortlistInput(loaded.job(), loaded.applications(), compiledCriteriaCache.get(loaded.criteria()));
+    }
 
-            } catch (Exception e) {
-                logger.error("Error scoring application {}", app.getId(), e);
-                // Add with low score if error
-                results.add(new ShortlistResult(
-                        app.getId(),
-                        app.getCandidateUser() != null ? app.getCandidateUser().getFullName() : "Unknown",
-                        app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "",
-                        0.0,
-                        false,
-                        "Error scoring application: " + e.getMessage()));
-            }
+    /**
+     * Give a job default criteria if it has none yet. Runs before the scoring
+     * reads, in a transaction of its own: ingests of a new job's applications
+     * run concurrently and race to create them, and the losers go on with the
+     * winner's row instead of failing on uk_job_criteria_job.
+     */
+    private void ensureCriteria(Long jobId) {
+        if (jobCriteriaRepository.existsByJobId(jobId)) {
+            return;
+        }
+        try {
+            criteriaTransaction.executeWithoutResult(status -> {
+                if (!jobCriteriaRepository.existsByJobId(jobId)) {
+                    jobRepository.findById(jobId).ifPresent(this::createDefaultCriteria);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Default criteria for job {} were created concurrently", jobId);
         }
+    }
 
-        // Sort by score descending
-        results.sort(Comparator.comparingDouble(ShortlistResult::getComputedScore).reversed());
+    /**
+     * Criteria of a job with their collections loaded (see ensureCriteria).
+     */
+    private JobCriteria criteriaFor(Job job) {
+        JobCriteria criteria = jobCriteriaRepository.findByJobId(job.getId())
+                .orElseThrow(() -> new IllegalStateException("Job " + job.getId() + " has no scoring criteria"));
+        Hibernate.initialize(criteria.getRequiredSkills());
+        Hibernate.initialize(criteria.getPreferredSkills());
+        Hibernate.initialize(criteria.getRequiredEducationLevels());
+        Hibernate.initialize(criteria.getKeywords());
+        return criteria;
+    }
 
-        // Mark top N as shortlisted
-        for (int i = 0; i < Math.min(topN, results.size()); i++) {
-            ShortlistResult result = results.get(i);
-            result.setShortlisted(true);
+    private record LoadedJob(Job job, List<Application> applications, JobCriteria criteria) {
+    }
+
+    private record ShortlistInput(Job job, List<Application> applications, CompiledCriteria criteria) {
+    }
 
-            // PERSIST to database
-            Application app = applicationRepository.findById(result.getApplicationId()).orElse(null);
-            if (app != null) {
-                app.setShortlisted(true);
-                applicationRepository.save(app);
+    /**
+     * Parse (if stale) and score a single application. Never throws: failures are
+     * reported as a zero score so one bad CV cannot abort the whole run. The
+     * score is stored with the rest of the run's at the end.
+     */
+    private ShortlistResult scoreApplication(Application app, Job job, CompiledCriteria criteria,
+            AtomicInteger cacheHits, AtomicInteger cacheMisses, ShortlistProgressListener listener) {
+        ShortlistResult result;
+        try {
+            // Re-parse only when the CV file or the extractor version changed
+            // (bump CVParsingService.PARSER_VERSION after changing extraction logic, then
+            // run the bulk re-parse, POST /api/admin/reparse, so shortlists keep hitting the cache)
+            if (cvParsingService.ensureParsed(app)) {
+                cacheHits.incrementAndGet();
+            } else {
+                cacheMisses.incrementAndGet();
             }
+            listener.onParsed(app.getId());
+            ParsedCVData cvData = cvParsingService.getParsedCVData(app.getId());
+
+            ScoreBreakdown breakdown = computeEnhancedScore(app, job, criteria, cvData);
+            double score = breakdown.getTotal();
+
+            String applicantName = app.getCandidateUser() != null ? app.getCandidateUser().getFullName()
+                    : "Unknown";
+            String applicantEmail = app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "";
+
+            result = new ShortlistResult(
+                    app.getId(),
+                    applicantName,
+                    applicantEmail,
+                    score,
+                    false, // Shortlisted flag is set once the ranking is known
+                    null); // Reason is rendered once the ranking is known, for the top N only
+            result.setBreakdown(breakdown);
+
+        } catch (Exception e) {
+            logger.error("Error scoring application {}", app.getId(), e);
+            // Add with low score if error
+            result = new ShortlistResult(
+                    app.getId(),
+                    app.getCandidateUser() != null ? app.getCandidateUser().getFullName() : "Unknown",
+                    app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "",
+                    0.0,
+                    false,
+                    "Error scoring application: " + e.getMessage());
         }
 
-        logger.info("Shortlisting complete. Top score: {}",
-                results.isEmpty() ? 0 : results.get(0).getComputedScore());
-
-        return results;
+        listener.onScored(result);
+        return result;
     }
 
     /**
-     * Compute enhanced score using parsed CV data and job criteria
+     * Compute enhanced score using parsed CV data and compiled job criteria
+     * (package-private for the JMH benchmarks)
      */
-    private double computeEnhancedScore(Application app, Job job, JobCriteria criteria, ParsedCVData cvData) {
+    ScoreBreakdown computeEnhancedScore(Application app, Job job, CompiledCriteria criteria,
+            ParsedCVData cvData) {
         double score = 0.0;
 
         // If CV parsing failed or no data, fall back to basic scoring
         if (cvData == null || cvData.getExtractedSkills().isEmpty()) {
             logger.warn("No parsed CV data for application {}, using fallback scoring", app.getId());
-            return computeFallbackScore(app, job);
+            return ScoreBreakdown.fallback(computeFallbackScore(app, job));
         }
 
         // 1. Skills matching (default 40%)
-        double skillsScore = calculateSkillsMatch(cvData.getExtractedSkills(),
-                criteria.getRequiredSkills(),
-                criteria.getPreferredSkills());
+        double skillsScore = calculateSkillsMatch(cvData.getSkillBits(), criteria);
         score += skillsScore * criteria.getSkillsWeight();
 
         // 2. Experience matching (default 25%)
@@ -148,48 +310,56 @@ public class ApplicationShortlistService {
         score += expScore * criteria.getExperienceWeight();
 
         // 3. Education matching (default 20%)
-        double eduScore = calculateEducationMatch(cvData.getEducationLevel(),
-                criteria.getRequiredEducationLevels());
+        double eduScore = calculateEducationMatch(cvData.getEducationLevel(), criteria);
         score += eduScore * criteria.getEducationWeight();
 
         // 4. Keywords/Certifications matching (default 15%)
-        double keywordScore = calculateKeywordMatch(cvData, criteria.getKeywords());
+        double keywordScore = calculateKeywordMatch(cvData.getSkillBits(), cvData.getCertificationBits(), criteria);
         score += keywordScore * criteria.getKeywordsWeight();
 
-        return Math.min(score * 100, 100.0); // Scale to 0-100
+        ScoreBreakdown breakdown = new ScoreBreakdown(Math.min(score * 100, 100.0), // Scale to 0-100
+                skillsScore, expScore, eduScore, keywordScore, false);
+        breakdown.setMatchedSkillIds(SkillVocabulary.idsOf(criteria.requiredMask(), cvData.getSkillBits(), true));
+        breakdown.setMissingSkillIds(SkillVocabulary.idsOf(criteria.requiredMask(), cvData.getSkillBits(), false));
+        breakdown.setYearsOfExperience(cvData.getYearsOfExperience());
+        breakdown.setEducationLevel(cvData.getEducationLevel());
+        return breakdown;
+    }
+
+    private static StoredScore storedScore(Long applicationId, ScoreBreakdown breakdown) {
+        return new StoredScore(applicationId, breakdown.getTotal(), breakdown.getSkillsScore(),
+                breakdown.getExperienceScore(), breakdown.getEducationScore(), breakdown.getKeywordsScore());
+    }
+
+    private void storeScore(Long applicationId, ScoreBreakdown breakdown, Long criteriaVersion) {
+        applicationRepository.updateScore(applicationId,
+                breakdown.getTotal(),
+                breakdown.getSkillsScore(),
+                breakdown.getExperienceScore(),
+                breakdown.getEducationScore(),
+                breakdown.getKeywordsScore(),
+                criteriaVersion,
+                LocalDateTime.now());
     }
 
     /**
      * Calculate skills match score
      */
-    private double calculateSkillsMatch(List<String> candidateSkills, List<String> requiredSkills,
-            List<String> preferredSkills) {
-        if (candidateSkills == null || candidateSkills.isEmpty()) {
-            return 0.0;
-        }
-
-        Set<String> candSkillsLower = candidateSkills.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-
+    private double calculateSkillsMatch(long[] candidateSkillBits, CompiledCriteria criteria) {
         double score = 0.0;
 
         // Required skills: 70% of skills score
-        if (requiredSkills != null && !requiredSkills.isEmpty()) {
-            long matchedRequired = requiredSkills.stream()
-                    .filter(s -> candSkillsLower.contains(s.toLowerCase()))
-                    .count();
-            score += 0.7 * ((double) matchedRequired / requiredSkills.size());
+        if (criteria.getRequiredCount() > 0) {
+            int matchedRequired = SkillVocabulary.countShared(criteria.requiredMask(), candidateSkillBits);
+            score += 0.7 * ((double) matchedRequired / criteria.getRequiredCount());
         } else {
             score += 0.7; // No required skills = full points
         }
 
         // Preferred skills: 30% of skills score
-        if (preferredSkills != null && !preferredSkills.isEmpty()) {
-            long matchedPreferred = preferredSkills.stream()
-                    .filter(s -> candSkillsLower.contains(s.toLowerCase()))
-                    .count();
-            score += 0.3 * ((double) matchedPreferred / preferredSkills.size());
+        if (criteria.getPreferredCount() > 0) {
+            int matchedPreferred = SkillVocabulary.countShared(criteria.preferredMask(), candidateSkillBits);
+            score += 0.3 * ((double) matchedPreferred / criteria.getPreferredCount());
         } else {
             score += 0.3; // No preferred skills = full points
         }
@@ -200,12 +370,12 @@ public class ApplicationShortlistService {
     /**
      * Calculate experience match score
      */
-    private double calculateExperienceMatch(Integer candidateYears, Integer minimumYears) {
+    private double calculateExperienceMatch(Integer candidateYears, int minimumYears) {
         if (candidateYears == null) {
             return 0.5; // Unknown experience = 50%
         }
 
-        if (minimumYears == null || minimumYears == 0) {
+        if (minimumYears == 0) {
             return 1.0; // No minimum = full points
         }
 
@@ -222,68 +392,38 @@ public class ApplicationShortlistService {
     /**
      * Calculate education match score
      */
-    private double calculateEducationMatch(String candidateEducation, List<String> requiredLevels) {
+    private double calculateEducationMatch(String candidateEducation, CompiledCriteria criteria) {
         if (candidateEducation == null || candidateEducation.equals("Unknown")) {
             return 0.5; // Unknown = 50%
         }
 
-        if (requiredLevels == null || requiredLevels.isEmpty()) {
+        if (!criteria.hasEducationRequirement()) {
             return 1.0; // No requirement = full points
         }
 
-        // Education hierarchy
-        Map<String, Integer> eduRank = Map.of(
-                "PhD", 5,
-                "Masters", 4,
-                "Bachelors", 3,
-                "Diploma", 2,
-                "Certificate", 1,
-                "Unknown", 0);
-
-        int candRank = eduRank.getOrDefault(candidateEducation, 0);
+        int candRank = CompiledCriteria.educationRank(candidateEducation);
 
-        // Check if candidate meets any required level
-        for (String required : requiredLevels) {
-            int reqRank = eduRank.getOrDefault(required, 0);
-            if (candRank >= reqRank) {
-                return 1.0; // Meets or exceeds requirement
-            }
+        // Meets or exceeds at least one of the required levels
+        if (candRank >= criteria.getMinRequiredRank()) {
+            return 1.0;
         }
 
         // Partial credit based on how close they are
-        int maxReqRank = requiredLevels.stream()
-                .mapToInt(r -> eduRank.getOrDefault(r, 0))
-                .max()
-                .orElse(0);
-
-        return Math.max(0.0, (double) candRank / maxReqRank);
+        return Math.max(0.0, (double) candRank / criteria.getMaxRequiredRank());
     }
 
     /**
      * Calculate keyword/certification match score
      */
-    private double calculateKeywordMatch(ParsedCVData cvData, List<String> keywords) {
-        if (keywords == null || keywords.isEmpty()) {
+    private double calculateKeywordMatch(long[] candidateSkillBits, long[] candidateCertificationBits,
+            CompiledCriteria criteria) {
+        if (criteria.getKeywordCount() == 0) {
             return 1.0; // No keywords = full points
         }
 
-        Set<String> candKeywords = new HashSet<>();
-        if (cvData.getExtractedSkills() != null) {
-            candKeywords.addAll(cvData.getExtractedSkills().stream()
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet()));
-        }
-        if (cvData.getCertifications() != null) {
-            candKeywords.addAll(cvData.getCertifications().stream()
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet()));
-        }
-
-        long matches = keywords.stream()
-                .filter(k -> candKeywords.contains(k.toLowerCase()))
-                .count();
-
-        return (double) matches / keywords.size();
+        int matches = SkillVocabulary.countSharedEither(criteria.keywordMask(), candidateSkillBits,
+                candidateCertificationBits);
+        return (double) matches / criteria.getKeywordCount();
     }
 
     /**
@@ -322,46 +462,57 @@ public class ApplicationShortlistService {
     }
 
     /**
-     * Build human-readable score explanation
+     * Render a human-readable explanation of a score breakdown
      */
-    private String buildScoreReason(Application app, Job job, JobCriteria criteria, ParsedCVData cvData, double score) {
+    private String explain(ScoreBreakdown breakdown, CompiledCriteria criteria) {
         StringBuilder reason = new StringBuilder();
-        reason.append(String.format("Score: %.1f/100. ", score));
+        reason.append(String.format("Score: %.1f/100. ", breakdown.getTotal()));
 
-        if (cvData == null || cvData.getExtractedSkills().isEmpty()) {
+        if (breakdown.isFallback()) {
             reason.append("CV parsing unavailable - basic scoring used. ");
             return reason.toString();
         }
 
-        // Skills breakdown
-        if (criteria.getRequiredSkills() != null && !criteria.getRequiredSkills().isEmpty()) {
-            Set<String> candSkills = cvData.getExtractedSkills().stream()
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet());
-
-            List<String> matched = criteria.getRequiredSkills().stream()
-                    .filter(s -> candSkills.contains(s.toLowerCase()))
-                    .limit(5)
-                    .collect(Collectors.toList());
-
-            if (!matched.isEmpty()) {
-                reason.append("Matched: ").append(String.join(", ", matched)).append(". ");
-            }
+        // Skills breakdown, in the order the criteria list them
+        List<String> matched = requiredSkillNames(breakdown.getMatchedSkillIds(), criteria);
+        if (!matched.isEmpty()) {
+            reason.append("Matched: ").append(String.join(", ", matched)).append(". ");
+        }
+        List<String> missing = requiredSkillNames(breakdown.getMissingSkillIds(), criteria);
+        if (!missing.isEmpty()) {
+            reason.append("Missing: ").append(String.join(", ", missing)).append(". ");
         }
 
         // Experience
-        if (cvData.getYearsOfExperience() != null) {
-            reason.append(String.format("%d years exp. ", cvData.getYearsOfExperience()));
+        if (breakdown.getYearsOfExperience() != null) {
+            reason.append(String.format("%d years exp. ", breakdown.getYearsOfExperience()));
         }
 
         // Education
-        if (cvData.getEducationLevel() != null && !cvData.getEducationLevel().equals("Unknown")) {
-            reason.append(cvData.getEducationLevel()).append(". ");
+        if (breakdown.getEducationLevel() != null && !breakdown.getEducationLevel().equals("Unknown")) {
+            reason.append(breakdown.getEducationLevel()).append(". ");
         }
 
         return reason.toString();
     }
 
+    /**
+     * Names of the first few required skills whose IDs are in the given (sorted) list
+     */
+    private static List<String> requiredSkillNames(int[] skillIds, CompiledCriteria criteria) {
+        List<String> names = new ArrayList<>();
+        if (skillIds == null || skillIds.length == 0) {
+            return names;
+        }
+        int[] requiredIds = criteria.requiredSkillIds();
+        for (int i = 0; i < requiredIds.length && names.size() < 5; i++) {
+            if (requiredIds[i] >= 0 && Arrays.binarySearch(skillIds, requiredIds[i]) >= 0) {
+                names.add(criteria.getRequiredSkillNames().get(i));
+            }
+        }
+        return names;
+    }
+
     /**
      * Create default criteria from job's existing fields
      */
@@ -387,7 +538,7 @@ public class ApplicationShortlistService {
             criteria.setRequiredEducationLevels(detectedEdu);
         }
 
-        return jobCriteriaRepository.save(criteria);
+        return jobCriteriaRepository.saveAndFlush(criteria);
     }
 
     /**
@@ -421,4 +572,164 @@ public class ApplicationShortlistService {
                 .map(ShortlistResult::getApplicationId)
                 .collect(Collectors.toList());
     }
+
+    // ---------------- Materialized scores ----------------
+
+    @EventListener
+    public void onApplicationIngested(ApplicationIngestedEvent event) {
+        ioExecutor.execute(() -> {
+            try {
+                scoreAndStore(event.applicationId());
+            } catch (Exception e) {
+                logger.error("Could not score application {} at ingest", event.applicationId(), e);
+            }
+        });
+    }
+
+    // Runs once the criteria change is committed, so the rescore reads the new version
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobCriteriaChanged(JobCriteriaChangedEvent event) {
+        scheduleRescore(event.jobId());
+    }
+
+    /**
+     * Queue a background rescore of a job; a no-op if one is already queued.
+     */
+    public void scheduleRescore(Long jobId) {
+        if (!pendingRescores.add(jobId)) {
+            return; // A queued rescore will pick up this change too
+        }
+        ioExecutor.execute(() -> {
+            pendingRescores.remove(jobId);
+            try {
+                rescoreJob(jobId);
+            } catch (Exception e) {
+                logger.error("Background rescore of job {} failed", jobId, e);
+            }
+        });
+    }
+
+    /**
+     * Score one application against its job's current criteria from the stored
+     * CV parse (no parsing happens here) and persist the result.
+     */
+    public ScoreBreakdown scoreAndStore(Long applicationId) {
+        ScoreInput input = loadScoreInput(applicationId);
+        ScoreBreakdown breakdown = score(input);
+        storeScore(applicationId, breakdown, input.criteria().getVersion());
+        logger.info("Stored score {} for application {}", breakdown.getTotal(), applicationId);
+        return breakdown;
+    }
+
+    /**
+     * Score breakdown and readable explanation of one application against its
+     * job's current criteria. Read-only: nothing is parsed or stored.
+     */
+    public ShortlistResult explainScore(Long applicationId) {
+        ScoreInput input = loadScoreInput(applicationId);
+        ScoreBreakdown breakdown = score(input);
+
+        Application app = input.application();
+        ShortlistResult result = new ShortlistResult(
+                app.getId(),
+                app.getCandidateUser() != null ? app.getCandidateUser().getFullName() : "Unknown",
+                app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "",
+                breakdown.getTotal(),
+                app.isShortlisted(),
+                explain(breakdown, input.criteria()));
+        result.setBreakdown(breakdown);
+        return result;
+    }
+
+    private ScoreInput loadScoreInput(Long applicationId) {
+        applicationRepository.findJobIdById(applicationId).ifPresent(this::ensureCriteria);
+        LoadedApplication loaded = transactionTemplate.execute(status -> {
+            Application app = applicationRepository.findById(applicationId)
+                    .orElseThrow(() -> new IllegalArgumentException("Application not found: " + applicationId));
+            Hibernate.initialize(app.getJob().getSkills());
+            return new LoadedApplication(app, criteriaFor(app.getJob()));
+        });
+        return new ScoreInput(loaded.application(), compiledCriteriaCache.get(loaded.criteria()));
+    }
+
+    private record LoadedApplication(Application application, JobCriteria criteria) {
+    }
+
+    private ScoreBreakdown score(ScoreInput input) {
+        Application app = input.application();
+        ParsedCVData cvData = cvParsingService.getParsedCVData(app.getId());
+        return computeEnhancedScore(app, app.getJob(), input.criteria(), cvData);
+    }
+
+    private record ScoreInput(Application application, CompiledCriteria criteria) {
+    }
+
+    /**
+     * Recompute the stored scores of every application of a job, e.g. after its
+     * criteria were edited.
+     */
+    public void rescoreJob(Long jobId) {
+        ShortlistInput input = loadInput(jobId);
+        CompiledCriteria criteria = input.criteria();
+        logger.info("Rescoring {} applications of job {} against criteria version {}",
+                input.applications().size(), jobId, criteria.getVersion());
+
+        List<StoredScore> scores = new ArrayList<>(input.applications().size());
+        for (Application app : input.applications()) {
+            try {
+                ParsedCVData cvData = cvParsingService.getParsedCVData(app.getId());
+                scores.add(storedScore(app.getId(), computeEnhancedScore(app, input.job(), criteria, cvData)));
+            } catch (Exception e) {
+                logger.error("Error rescoring application {}", app.getId(), e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.storeScores(scores,
+                criteria.getVersion(), LocalDateTime.now()));
+    }
+
+    /**
+     * Top N applications of a job by stored score, best first. A single indexed
+     * query; applications that have not been scored yet are not included.
+     */
+    public List<ShortlistResult> getTopByStoredScore(Long jobId, int topN) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new IllegalArgumentException("Job not found: " + jobId);
+        }
+        if (topN <= 0) {
+            return new ArrayList<>();
+        }
+
+        List<ShortlistResult> results = new ArrayList<>(topN);
+        for (Application app : applicationRepository.findTopScored(jobId, PageRequest.of(0, topN))) {
+            ShortlistResult result = new ShortlistResult(
+                    app.getId(),
+                    app.getCandidateUser() != null ? app.getCandidateUser().getFullName() : "Unknown",
+                    app.getCandidateUser() != null ? app.getCandidateUser().getEmail() : "",
+                    app.getScore(),
+                    true,
+                    String.format("Score: %.1f/100 (stored, criteria version %s). ",
+                            app.getScore(), app.getScoredCriteriaVersion()));
+            result.setBreakdown(new ScoreBreakdown(app.getScore(), app.getSkillsScore(), app.getExperienceScore(),
+                    app.getEducationScore(), app.getKeywordsScore(), app.getSkillsScore() == null));
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Shortlist the top N applications by stored score without parsing or
+     * scoring anything, and persist the shortlist flags.
+     */
+    public List<ShortlistResult> shortlistFromStoredScores(Long jobId, int topN) {
+        List<ShortlistResult> results = getTopByStoredScore(jobId, topN);
+        applicationService.replaceShortlist(jobId, results.stream()
+                .map(ShortlistResult::getApplicationId)
+                .collect(Collectors.toList()));
+
+        long unscored = applicationRepository.countByJob_IdAndScoreIsNull(jobId);
+        if (unscored > 0) {
+            logger.warn("{} applications of job {} have no stored score and were not considered", unscored, jobId);
+        }
+        return results;
+    }
 }
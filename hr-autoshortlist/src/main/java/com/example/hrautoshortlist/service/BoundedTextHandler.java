@@ -0,0 +1,157 @@
+package com.example.hrautoshortlist.service;
+
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * SAX handler that collects at most {@code maxChars} characters of document text
+ * and hands every completed line to a listener as it streams in.
+ *
+ * Parsing is stopped (by throwing {@link StopParsingException}) as soon as the
+ * cap is reached or the listener reports that it is resolved, so a huge
+ * document costs no more heap than the cap allows. With a time limit, parsing
+ * is aborted with {@link TimeLimitExceededException} once the parser delivers
+ * text after the limit has passed.
+ */
+public class BoundedTextHandler extends DefaultHandler {
+
+    private final int maxChars;
+    private final TextLineListener listener;
+
+    // System.nanoTime() deadline; only checked when timeLimited
+    private final boolean timeLimited;
+    private final long deadline;
+
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder line = new StringBuilder();
+    private boolean truncated;
+    private boolean stoppedEarly;
+
+    public BoundedTextHandler(int maxChars, TextLineListener listener) {
+        this(maxChars, 0, listener);
+    }
+
+    /**
+     * @param timeLimitNanos time allowed from now until parsing is aborted; 0 for no limit
+     */
+    public BoundedTextHandler(int maxChars, long timeLimitNanos, TextLineListener listener) {
+        this.maxChars = maxChars;
+        this.listener = listener;
+        this.timeLimited = timeLimitNanos > 0;
+        this.deadline = System.nanoTime() + timeLimitNanos;
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        if (timeLimited && System.nanoTime() - deadline > 0) {
+            throw new TimeLimitExceededException();
+        }
+        for (int i = start; i < start + length; i++) {
+            if (text.length() >= maxChars) {
+                truncated = true;
+                stop();
+            }
+
+            char c = ch[i];
+            text.append(c);
+            if (c == '\n') {
+                flushLine();
+                if (listener.isResolved()) {
+                    stoppedEarly = true;
+                    stop();
+                }
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+        characters(ch, start, length);
+    }
+
+    @Override
+    public void endDocument() {
+        flushLine();
+    }
+
+    private void flushLine() {
+        if (line.length() > 0) {
+            listener.onLine(line.toString());
+            line.setLength(0);
+        }
+    }
+
+    private void stop() throws StopParsingException {
+        flushLine();
+        throw new StopParsingException();
+    }
+
+    /**
+     * Text collected so far (at most maxChars characters).
+     */
+    public String getText() {
+        return text.toString();
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public boolean isStoppedEarly() {
+        return stoppedEarly;
+    }
+
+    /**
+     * Whether the exception (possibly wrapped by a parser) is this handler's
+     * request to stop rather than a real parse error.
+     */
+    public static boolean isStop(Throwable error) {
+        return hasCause(error, StopParsingException.class);
+    }
+
+    /**
+     * Whether the exception (possibly wrapped by a parser) is this handler's
+     * time limit being exceeded.
+     */
+    public static boolean isTimeLimit(Throwable error) {
+        return hasCause(error, TimeLimitExceededException.class);
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends SAXException> type) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Thrown from the handler to end parsing early; not an error.
+     */
+    public static class StopParsingException extends SAXException {
+
+        private static final long serialVersionUID = 1L;
+
+        StopParsingException() {
+            super("Text extraction stopped early");
+        }
+    }
+
+    /**
+     * Thrown from the handler when the parse has run past its time limit.
+     */
+    public static class TimeLimitExceededException extends SAXException {
+
+        private static final long serialVersionUID = 1L;
+
+        TimeLimitExceededException() {
+            super("Text extraction exceeded its time limit");
+        }
+    }
+}
@@ -5,25 +5,47 @@ import com.example.hrautoshortlist.entity.Application;
 import com.example.hrautoshortlist.entity.ParsedCV;
 import com.example.hrautoshortlist.repository.ParsedCVRepository;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.fork.ForkParser;
+import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.hibernate.Hibernate;
 import org.apache.tika.sax.BodyContentHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.xml.sax.SAXException;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service for parsing CV files (PDF, DOCX) and extracting structured
@@ -35,13 +57,91 @@ public class CVParsingService {
 
     private static final Logger logger = LoggerFactory.getLogger(CVParsingService.class);
 
+    /**
+     * Version of the extraction logic. Bump this whenever the extractors change so
+     * that stored results are treated as stale and re-parsed. Skill taxonomy
+     * edits need no bump: TaxonomyReextractionService updates the affected CVs.
+     */
+    public static final int PARSER_VERSION = 4;
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
-    private final ParsedCVRepository parsedCVRepository;
+    // Upper bound on extracted characters per CV (roughly 100 pages of text)
+    @Value("${shortlist.parse.max-chars:200000}")
+    private int maxChars = 200_000;
+
+    // Wall-clock budget of a single parse; slower documents get parsingStatus TIMEOUT
+    @Value("${shortlist.parse.timeout-seconds:60}")
+    private long parseTimeoutSeconds = 60;
+
+    // How long a caller waits for a free parse thread before giving the CV back to be retried later
+    @Value("${shortlist.parse.queue-wait-seconds:120}")
+    private long queueWaitSeconds = 120;
+
+    // Content types parsed in a forked JVM when isolation is enabled (see TikaParserConfig)
+    @Value("${shortlist.parse.isolation.content-types:application/pdf}")
+    private String[] isolatedContentTypes = { "application/pdf" };
+
+    @Autowired(required = false)
+    private ForkParser isolatedParser;
 
-    public CVParsingService(ParsedCVRepository parsedCVRepository) {
+    // Format-specific extractors tried before Tika (see CvTextExtractor)
+    @Value("${shortlist.parse.fast-paths.enabled:true}")
+    private boolean fastPathsEnabled = true;
+
+    private final ParsedCVRepository parsedCVRepository;
+    private final ExecutorService cpuExecutor;
+    private final SkillVocabulary skillVocabulary;
+    private final TransactionTemplate transactionTemplate;
+    private final CvTextStore cvTextStore;
+    private final SkillTaxonomyService skillTaxonomyService;
+
+    // Shared, thread-safe parser built once at startup (see TikaParserConfig)
+    private final AutoDetectParser tikaParser;
+    private final ParserMetrics parserMetrics;
+    private final List<CvTextExtractor> textExtractors;
+
+    public CVParsingService(ParsedCVRepository parsedCVRepository,
+            @Qualifier("cvCpuExecutor") ExecutorService cpuExecutor,
+            SkillVocabulary skillVocabulary,
+            TransactionTemplate transactionTemplate,
+            CvTextStore cvTextStore,
+            SkillTaxonomyService skillTaxonomyService,
+            AutoDetectParser tikaParser,
+            ParserMetrics parserMetrics,
+            List<CvTextExtractor> textExtractors) {
         this.parsedCVRepository = parsedCVRepository;
+        this.cpuExecutor = cpuExecutor;
+        this.skillVocabulary = skillVocabulary;
+        this.transactionTemplate = transactionTemplate;
+        this.cvTextStore = cvTextStore;
+        this.skillTaxonomyService = skillTaxonomyService;
+        this.tikaParser = tikaParser;
+        this.parserMetrics = parserMetrics;
+        this.textExtractors = textExtractors;
+    }
+
+    /**
+     * Parse the bundled sample PDF and DOCX once the application is up, so the
+     * parsers' lazy initialization and JIT warm-up do not land on the first
+     * real upload.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpParser() {
+        cpuExecutor.execute(() -> {
+            long start = System.nanoTime();
+            for (String sample : new String[] { "sample.pdf", "sample.docx" }) {
+                try (InputStream in = new ClassPathResource("tika-warmup/" + sample).getInputStream()) {
+                    extractText(tikaParser, in, sample, new CvFieldCollector(skillTaxonomyService.dictionary()),
+                            false);
+                } catch (Exception e) {
+                    logger.warn("Parser warm-up with {} failed", sample, e);
+                }
+            }
+            parserMetrics.markWarmedUp();
+            logger.info("Parser warm-up finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+        });
     }
 
     /**
@@ -59,7 +159,84 @@ public class CVParsingService {
             return existing.get();
         }
 
-        ParsedCV parsedCV = existing.orElse(new ParsedCV(application));
+        // A forced refresh always runs the extractors again
+        return parseInto(existing.orElse(new ParsedCV(application)), application, hashCvFile(application),
+                !forceRefresh);
+    }
+
+    /**
+     * Make sure the stored parse for an application reflects its current CV file
+     * and extractor version, re-parsing only when either has changed.
+     *
+     * @return true if the stored result was reused (cache hit), false if the CV
+     *         was parsed again.
+     */
+    public boolean ensureParsed(Application application) {
+        String contentHash = hashCvFile(application);
+        Optional<ParsedCV> existing = parsedCVRepository.findByApplicationId(application.getId());
+
+        if (existing.isPresent() && isCurrent(existing.get(), contentHash)) {
+            logger.debug("Parse cache hit for application {}", application.getId());
+            if (!hasCurrentSkillBits(existing.get())) {
+                // Vocabulary grew since the bitsets were built; rebuild them from the stored lists
+                Long parsedCVId = existing.get().getId();
+                transactionTemplate.executeWithoutResult(status -> parsedCVRepository.findById(parsedCVId)
+                        .ifPresent(this::updateSkillBits));
+            }
+            return true;
+        }
+
+        logger.info("Parse cache miss for application {}", application.getId());
+        parseInto(existing.orElse(new ParsedCV(application)), application, contentHash, true);
+        return false;
+    }
+
+    /**
+     * Like ensureParsed, for the background parse queue: returns the stored
+     * result, and parses again when it is stale or a previous attempt FAILED.
+     */
+    public ParsedCV parseUnlessCurrent(Application application) {
+        String contentHash = hashCvFile(application);
+        Optional<ParsedCV> existing = parsedCVRepository.findByApplicationId(application.getId());
+
+        if (existing.isPresent() && isCurrent(existing.get(), contentHash)
+                && "SUCCESS".equals(existing.get().getParsingStatus())) {
+            return existing.get();
+        }
+        return parseInto(existing.orElse(new ParsedCV(application)), application, contentHash, true);
+    }
+
+    private boolean isCurrent(ParsedCV parsedCV, String contentHash) {
+        return Objects.equals(contentHash, parsedCV.getContentHash())
+                && Integer.valueOf(PARSER_VERSION).equals(parsedCV.getParserVersion());
+    }
+
+    private boolean hasCurrentSkillBits(ParsedCV parsedCV) {
+        return parsedCV.getSkillBits() != null && skillVocabulary.isCurrent(parsedCV.getSkillVocabularySize());
+    }
+
+    private void updateSkillBits(ParsedCV parsedCV) {
+        int width = skillVocabulary.size();
+        parsedCV.setSkillBits(skillVocabulary.bitsOf(parsedCV.getExtractedSkills(), width));
+        parsedCV.setCertificationBits(skillVocabulary.bitsOf(parsedCV.getCertifications(), width));
+        parsedCV.setSkillVocabularySize(width);
+    }
+
+    /**
+     * @param reuseSameFile copy the result of another application's parse of the
+     *                      identical file (e.g. one CV sent to several jobs)
+     *                      instead of running the extractors again
+     */
+    private ParsedCV parseInto(ParsedCV parsedCV, Application application, String contentHash,
+            boolean reuseSameFile) {
+        parsedCV.setContentHash(contentHash);
+        parsedCV.setParserVersion(PARSER_VERSION);
+        parsedCV.setParsingError(null);
+        parsedCV.setParsedAt(LocalDateTime.now());
+
+        // Raw text to store with the result, or the parse whose stored text is copied
+        String rawText = null;
+        Long sameFileParseId = null;
 
         try {
             String cvFilename = application.getCvFilename();
@@ -67,18 +244,27 @@ public class CVParsingService {
                 logger.warn("No CV file for application {}", application.getId());
                 parsedCV.setParsingStatus("FAILED");
                 parsedCV.setParsingError("No CV file uploaded");
-                return parsedCVRepository.save(parsedCV);
+                return saveWithText(parsedCV, null, null);
             }
 
-            // Parse the CV file
-            ParsedCVData cvData = parseCVFile(cvFilename);
+            ParsedCV sameFile = reuseSameFile ? findParsedByHash(contentHash) : null;
+            ParsedCVData cvData;
+            if (sameFile != null) {
+                logger.info("Reusing parse of identical CV file for application {}", application.getId());
+                cvData = toParsedCVData(sameFile);
+                sameFileParseId = sameFile.getId();
+            } else {
+                // Parse the CV file (CPU-bound, so it runs on the bounded parse pool)
+                cvData = parseOnCpuPool(cvFilename);
+                rawText = cvData.getRawText();
+            }
 
             // Populate entity from DTO
             parsedCV.setExtractedSkills(cvData.getExtractedSkills());
             parsedCV.setYearsOfExperience(cvData.getYearsOfExperience());
             parsedCV.setEducationLevel(cvData.getEducationLevel());
             parsedCV.setCertifications(cvData.getCertifications());
-            parsedCV.setRawText(cvData.getRawText());
+            updateSkillBits(parsedCV);
             parsedCV.setParsingStatus("SUCCESS");
 
             logger.info("Successfully parsed CV for application {}: {} skills, {} years exp, {} education",
@@ -87,231 +273,347 @@ public class CVParsingService {
                     cvData.getYearsOfExperience(),
                     cvData.getEducationLevel());
 
+        } catch (TimeoutException e) {
+            // Not retried by shortlisting; the application is scored with the fallback instead
+            logger.warn("Parsing CV for application {} timed out: {}", application.getId(), e.getMessage());
+            parsedCV.setParsingStatus("TIMEOUT");
+            parsedCV.setParsingError(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            // Never parsed, so nothing to store; the caller retries (the parse queue backs off)
+            throw e;
         } catch (Exception e) {
             logger.error("Error parsing CV for application {}", application.getId(), e);
             parsedCV.setParsingStatus("FAILED");
             parsedCV.setParsingError(e.getMessage());
         }
 
-        return parsedCVRepository.save(parsedCV);
+        return saveWithText(parsedCV, rawText, sameFileParseId);
     }
 
     /**
-     * Parse CV file and extract structured data
+     * Save the parse result together with its compressed raw text (copied from
+     * another parse when sameFileParseId is set; removed when there is none).
      */
-    public ParsedCVData parseCVFile(String filename) throws IOException, TikaException, SAXException {
-        File file = new File(uploadDir, filename);
+    private ParsedCV saveWithText(ParsedCV parsedCV, String rawText, Long sameFileParseId) {
+        return transactionTemplate.execute(status -> {
+            ParsedCV saved = parsedCVRepository.save(parsedCV);
+            if (sameFileParseId != null) {
+                cvTextStore.copy(sameFileParseId, saved.getId());
+            } else {
+                cvTextStore.save(saved.getId(), rawText);
+            }
+            return saved;
+        });
+    }
 
-        if (!file.exists()) {
-            throw new IOException("CV file not found: " + filename);
+    /**
+     * A current, successful parse of the file with this hash (collections
+     * loaded), or null.
+     */
+    private ParsedCV findParsedByHash(String contentHash) {
+        if (contentHash == null) {
+            return null;
         }
-
-        // Extract text using Apache Tika
-        String text = extractTextFromFile(file);
-
-        // Extract structured data
-        List<String> skills = extractSkills(text);
-        Integer yearsExp = extractYearsOfExperience(text);
-        String education = extractEducationLevel(text);
-        List<String> certifications = extractCertifications(text);
-
-        return new ParsedCVData(skills, yearsExp, education, certifications, text);
+        return transactionTemplate.execute(status -> parsedCVRepository
+                .findFirstByContentHashAndParserVersionAndParsingStatus(contentHash, PARSER_VERSION, "SUCCESS")
+                .map(parsedCV -> {
+                    Hibernate.initialize(parsedCV.getExtractedSkills());
+                    Hibernate.initialize(parsedCV.getCertifications());
+                    return parsedCV;
+                })
+                .orElse(null));
     }
 
     /**
-     * Extract raw text from PDF/DOCX using Apache Tika
+     * SHA-256 of the application's CV file, or null if there is no readable file.
      */
-    private String extractTextFromFile(File file) throws IOException, TikaException, SAXException {
-        BodyContentHandler handler = new BodyContentHandler(-1); // No limit
-        AutoDetectParser parser = new AutoDetectParser();
-        Metadata metadata = new Metadata();
+    private String hashCvFile(Application application) {
+        String cvFilename = application.getCvFilename();
+        if (cvFilename == null || cvFilename.isEmpty()) {
+            return null;
+        }
 
-        try (FileInputStream inputStream = new FileInputStream(file)) {
-            parser.parse(inputStream, handler, metadata);
+        File file = new File(uploadDir, cvFilename);
+        if (!file.exists()) {
+            return null;
         }
 
-        return handler.toString();
+        try (InputStream in = new FileInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Could not hash CV file {} for application {}", cvFilename, application.getId(), e);
+            return null;
+        }
     }
 
     /**
-     * Extract skills from CV text using common programming languages, frameworks,
-     * and tools
+     * Run parseCVFile on the CPU-sized pool and wait for the result, so that
+     * callers on I/O threads never run more Tika parses than there are cores.
+     * Gives up with a TimeoutException once the parse has run for
+     * shortlist.parse.timeout-seconds; time spent waiting for a free parse
+     * thread does not count, but is itself limited to
+     * shortlist.parse.queue-wait-seconds, after which the parse is withdrawn
+     * with a RejectedExecutionException. Together the two keep a parse-queue
+     * worker well inside shortlist.parse-queue.lock-timeout-minutes.
+     *
+     * Cancelling a timed-out parse only interrupts its thread. The text
+     * handler stops Tika at its next SAX event past the deadline, but a parser
+     * stuck without producing events and ignoring interrupts keeps the pool
+     * thread until it returns. Content types known to do that belong in
+     * shortlist.parse.isolation.content-types, where the forked JVM is killed
+     * instead.
      */
-    private List<String> extractSkills(String text) {
-        List<String> skills = new ArrayList<>();
-        String lowerText = text.toLowerCase();
-
-        // Common technical skills to look for
-        String[] commonSkills = {
-                // Programming Languages
-                "java", "python", "javascript", "typescript", "c++", "c#", "ruby", "php", "swift", "kotlin",
-                "go", "rust", "scala", "r", "matlab", "sql", "html", "css",
-
-                // Frameworks & Libraries
-                "spring", "spring boot", "react", "angular", "vue", "node.js", "express", "django", "flask",
-                "laravel", "rails", ".net", "asp.net", "hibernate", "jpa",
-
-                // Databases
-                "mysql", "postgresql", "mongodb", "oracle", "sql server", "redis", "cassandra", "dynamodb",
-
-                // Cloud & DevOps
-                "aws", "azure", "gcp", "docker", "kubernetes", "jenkins", "git", "ci/cd", "terraform",
-
-                // SAP
-                "SAP FICO", "SAP MM", "SAP SD", "SAP HANA", "SAP ABAP", "SAP BW", "SAP CRM", "SAP BASIS", "SAP B1",
-                "SAP SuccessFactors", "SAP Ariba", "SAP S/4HANA", "SAP Fiori",
-
-                // Other
-                "rest api", "microservices", "agile", "scrum", "machine learning", "data analysis",
-                "project management", "leadership", "communication"
-        };
-
-        for (String skill : commonSkills) {
-            if (lowerText.contains(skill.toLowerCase())) {
-                skills.add(skill);
+    private ParsedCVData parseOnCpuPool(String cvFilename) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<ParsedCVData> future = cpuExecutor.submit(() -> {
+            started.countDown();
+            return parseCVFile(cvFilename);
+        });
+        try {
+            if (!started.await(queueWaitSeconds, TimeUnit.SECONDS) && future.cancel(false)) {
+                logger.warn("No parse thread free for {} within {} s", cvFilename, queueWaitSeconds);
+                throw new RejectedExecutionException("No parse thread free within " + queueWaitSeconds + " s");
             }
+            return future.get(parseTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // The parser stopped producing text; interrupt it and move on without it
+            future.cancel(true);
+            logger.warn("Abandoned parse of {} after {} s", cvFilename, parseTimeoutSeconds);
+            throw new TimeoutException("Parsing took longer than " + parseTimeoutSeconds + " s");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
         }
+    }
 
-        // Also extract from "Skills:" section if present
-        Pattern skillsSection = Pattern.compile("skills?\\s*:?\\s*([^\\n]{10,200})", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = skillsSection.matcher(text);
-        if (matcher.find()) {
-            String skillsLine = matcher.group(1);
-            String[] parts = skillsLine.split("[,;|]");
-            for (String part : parts) {
-                String trimmed = part.trim();
-                if (trimmed.length() > 2 && trimmed.length() < 50) {
-                    skills.add(trimmed);
-                }
-            }
+    /**
+     * Parse CV file and extract structured data. The text is streamed through
+     * the field extractors while Tika produces it and is capped at
+     * shortlist.parse.max-chars characters.
+     */
+    public ParsedCVData parseCVFile(String filename)
+            throws IOException, TikaException, SAXException, TimeoutException {
+        File file = new File(uploadDir, filename);
+
+        if (!file.exists()) {
+            throw new IOException("CV file not found: " + filename);
         }
 
-        return skills.stream().distinct().collect(Collectors.toList());
+        CvFieldCollector fields = new CvFieldCollector(skillTaxonomyService.dictionary());
+        String text = extractTextFromFile(file, fields);
+
+        return new ParsedCVData(fields.getSkills(), fields.getYearsOfExperience(), fields.getEducationLevel(),
+                fields.getCertifications(), text);
     }
 
     /**
-     * Extract years of experience from CV text
+     * Extract raw text from the CV file, feeding each line to the listener as it
+     * is produced. Stops at the character cap, or as soon as the listener has
+     * everything it needs. Formats with a fast path (DOCX, TXT) skip Tika.
      */
-    private Integer extractYearsOfExperience(String text) {
-        // Look for patterns like "5 years", "5+ years", "5-7 years"
-        Pattern pattern = Pattern.compile("(\\d+)\\s*\\+?\\s*(?:-\\s*\\d+\\s*)?years?\\s+(?:of\\s+)?experience",
-                Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(text);
-
-        if (matcher.find()) {
-            return Integer.parseInt(matcher.group(1));
+    private String extractTextFromFile(File file, TextLineListener listener)
+            throws IOException, TikaException, SAXException, TimeoutException {
+        CvTextExtractor extractor = extractorFor(file);
+        if (extractor != null) {
+            String text = extractText(extractor, file, listener);
+            if (text != null) {
+                return text;
+            }
         }
-
-        // Alternative: count job positions and estimate
-        Pattern jobPattern = Pattern.compile("(\\d{4})\\s*-\\s*(\\d{4}|present|current)", Pattern.CASE_INSENSITIVE);
-        Matcher jobMatcher = jobPattern.matcher(text);
-        int totalYears = 0;
-        while (jobMatcher.find()) {
-            int startYear = Integer.parseInt(jobMatcher.group(1));
-            String endYearStr = jobMatcher.group(2);
-            int endYear = endYearStr.matches("\\d{4}") ? Integer.parseInt(endYearStr) : 2026;
-            totalYears += (endYear - startYear);
+        try (TikaInputStream inputStream = TikaInputStream.get(file.toPath())) {
+            return extractText(parserFor(inputStream, file.getName()), inputStream, file.getName(), listener, true);
         }
-
-        return totalYears > 0 ? totalYears : null;
     }
 
     /**
-     * Extract highest education level from CV text
+     * The forked-JVM parser for the content types configured for isolation (when
+     * isolation is enabled), otherwise the shared in-process parser.
      */
-    private String extractEducationLevel(String text) {
-        String lowerText = text.toLowerCase();
-
-        // 1. PhD Detection
-        if (lowerText.matches(".*\\b(ph\\.?d|doctorate|doctor of philosophy)\\b.*")) {
-            return "PhD";
+    private Parser parserFor(TikaInputStream inputStream, String name) throws IOException {
+        if (isolatedParser == null) {
+            return tikaParser;
         }
+        String type = tikaParser.getDetector().detect(inputStream, new Metadata()).getBaseType().toString();
+        if (Arrays.asList(isolatedContentTypes).contains(type)) {
+            logger.debug("Parsing {} ({}) in a forked JVM", name, type);
+            return isolatedParser;
+        }
+        return tikaParser;
+    }
 
-        // 2. Masters Detection (with false positive prevention)
-        // Patterns that likely indicate a real degree
-        Pattern mastersPattern = Pattern.compile(
-                "\\b(master(?:'s)?\\s+(?:of|degree)|msc|m\\.sc|mba|m\\.a|ma|m\\.phil)\\b", Pattern.CASE_INSENSITIVE);
-        // Exclusions: Contexts where "master" does NOT mean a degree
-        String[] exclusions = { "scrum master", "web master", "headmaster", "mastered", "mastery", "postmaster" };
-
-        Matcher m = mastersPattern.matcher(lowerText);
-        if (m.find()) {
-            boolean isExcluded = false;
-            String surroundingText = lowerText.substring(Math.max(0, m.start() - 10),
-                    Math.min(lowerText.length(), m.end() + 10));
-            for (String exclusion : exclusions) {
-                if (surroundingText.contains(exclusion)) {
-                    isExcluded = true;
-                    break;
-                }
+    /**
+     * The first fast-path extractor accepting the file's leading bytes, or null
+     * to use Tika. Content types parsed in isolation always go to Tika.
+     */
+    private CvTextExtractor extractorFor(File file) throws IOException {
+        if (!fastPathsEnabled || textExtractors == null || textExtractors.isEmpty()) {
+            return null;
+        }
+        byte[] head;
+        try (InputStream in = new FileInputStream(file)) {
+            head = in.readNBytes(CvTextExtractor.HEAD_BYTES);
+        }
+        for (CvTextExtractor extractor : textExtractors) {
+            if (extractor.accepts(head, file.getName())) {
+                boolean isolated = isolatedParser != null
+                        && Arrays.asList(isolatedContentTypes).contains(extractor.contentType());
+                return isolated ? null : extractor;
             }
-            if (!isExcluded)
-                return "Masters";
         }
+        return null;
+    }
 
-        // 3. Bachelors Detection
-        if (lowerText.matches(".*\\b(bachelor(?:'s)?|bsc|b\\.sc|b\\.a|ba|undergraduate|degree)\\b.*")) {
-            return "Bachelors";
-        }
+    /**
+     * Fast-path counterpart of the Tika extractText below. Returns null, having
+     * fed nothing to the listener, if the extractor declines the file.
+     */
+    private String extractText(CvTextExtractor extractor, File file, TextLineListener listener)
+            throws IOException, SAXException, TimeoutException {
+        BoundedTextHandler text = new BoundedTextHandler(maxChars, TimeUnit.SECONDS.toNanos(parseTimeoutSeconds),
+                listener);
+        boolean declined = false;
+        boolean success = false;
+        long start = System.nanoTime();
 
-        // 4. Diploma/Cert
-        if (lowerText.contains("diploma") || lowerText.contains("hnd") || lowerText.contains("associate")) {
-            return "Diploma";
+        try {
+            declined = !extractor.extract(file.toPath(), text);
+            if (declined) {
+                return null;
+            }
+            success = true;
+        } catch (IOException | SAXException e) {
+            if (!isStopped(e)) {
+                throw e;
+            }
+            success = true;
+        } finally {
+            if (!declined) {
+                parserMetrics.recordParse(extractor.contentType(), System.nanoTime() - start, success);
+            }
         }
-        if (lowerText.contains("certificate") || lowerText.contains("certification")) {
-            return "Certificate";
+
+        logLimits(text, file.getName());
+        return text.getText();
+    }
+
+    private String extractText(Parser parser, InputStream inputStream, String name, TextLineListener listener,
+            boolean recordMetrics) throws IOException, TikaException, SAXException, TimeoutException {
+        BoundedTextHandler text = new BoundedTextHandler(maxChars, TimeUnit.SECONDS.toNanos(parseTimeoutSeconds),
+                listener);
+        Metadata metadata = new Metadata();
+        boolean success = false;
+        long start = System.nanoTime();
+
+        try {
+            parser.parse(inputStream, new BodyContentHandler(text), metadata, new ParseContext());
+            success = true;
+        } catch (IOException | TikaException | SAXException e) {
+            if (!isStopped(e)) {
+                throw e;
+            }
+            success = true;
+        } finally {
+            if (recordMetrics) {
+                parserMetrics.recordParse(metadata.get(Metadata.CONTENT_TYPE), System.nanoTime() - start, success);
+            }
         }
 
-        return "Unknown";
+        logLimits(text, name);
+        return text.getText();
     }
 
     /**
-     * Extract certifications from CV text
+     * Whether a parse ended by a BoundedTextHandler stop (cap reached or all
+     * fields resolved), which counts as success.
+     *
+     * @throws TimeoutException if it ended by the handler's time limit
      */
-    private List<String> extractCertifications(String text) {
-        List<String> certifications = new ArrayList<>();
-        String lowerText = text.toLowerCase();
-
-        // Common certifications
-        String[] commonCerts = {
-                "pmp", "aws certified", "azure certified", "gcp certified", "cissp", "cisa", "cism",
-                "comptia", "ccna", "ccnp", "ceh", "scrum master", "safe", "itil", "six sigma"
-        };
-
-        for (String cert : commonCerts) {
-            if (lowerText.contains(cert.toLowerCase())) {
-                certifications.add(cert);
-            }
+    private boolean isStopped(Exception e) throws TimeoutException {
+        if (BoundedTextHandler.isTimeLimit(e)) {
+            throw new TimeoutException("Parsing took longer than " + parseTimeoutSeconds + " s");
         }
+        return BoundedTextHandler.isStop(e);
+    }
 
-        // Look for "Certifications:" section
-        Pattern certsSection = Pattern.compile("certifications?\\s*:?\\s*([^\\n]{10,300})", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = certsSection.matcher(text);
-        if (matcher.find()) {
-            String certsLine = matcher.group(1);
-            String[] parts = certsLine.split("[,;|]");
-            for (String part : parts) {
-                String trimmed = part.trim();
-                if (trimmed.length() > 3 && trimmed.length() < 100) {
-                    certifications.add(trimmed);
-                }
-            }
+    private void logLimits(BoundedTextHandler text, String name) {
+        if (text.isTruncated()) {
+            logger.warn("CV {} exceeds {} characters; only the first {} were extracted", name, maxChars, maxChars);
+        } else if (text.isStoppedEarly()) {
+            logger.debug("All fields of CV {} resolved before the end of the document", name);
         }
+    }
 
-        return certifications.stream().distinct().collect(Collectors.toList());
+    /**
+     * Run field extraction again over the stored text of a parse with the current
+     * skill taxonomy, without reading the CV file, and save the result.
+     *
+     * @return the parse's application ID, or null if the parse no longer exists
+     */
+    public Long reextract(Long parsedCvId, String text) {
+        CvFieldCollector fields = CvFieldCollector.feed(text,
+                new CvFieldCollector(skillTaxonomyService.dictionary()));
+        return transactionTemplate.execute(status -> parsedCVRepository.findById(parsedCvId)
+                .map(parsedCV -> {
+                    parsedCV.setExtractedSkills(fields.getSkills());
+                    parsedCV.setCertifications(fields.getCertifications());
+                    parsedCV.setYearsOfExperience(fields.getYearsOfExperience());
+                    parsedCV.setEducationLevel(fields.getEducationLevel());
+                    updateSkillBits(parsedCV);
+                    return parsedCV.getApplication().getId();
+                })
+                .orElse(null));
     }
 
     /**
-     * Get parsed CV data for an application (from database)
+     * Get parsed CV data for an application (from database). Null when the CV
+     * has not been parsed successfully (FAILED or TIMEOUT), so the scorer uses
+     * fallback scoring.
      */
+    @Transactional(readOnly = true)
     public ParsedCVData getParsedCVData(Long applicationId) {
         return parsedCVRepository.findByApplicationId(applicationId)
-                .map(parsedCV -> new ParsedCVData(
-                        parsedCV.getExtractedSkills(),
-                        parsedCV.getYearsOfExperience(),
-                        parsedCV.getEducationLevel(),
-                        parsedCV.getCertifications(),
-                        parsedCV.getRawText()))
+                .filter(parsedCV -> !"FAILED".equals(parsedCV.getParsingStatus())
+                        && !"TIMEOUT".equals(parsedCV.getParsingStatus()))
+                .map(this::toParsedCVData)
                 .orElse(null);
     }
+
+    /**
+     * Raw extracted text of an application's CV, for review and debugging.
+     * Decompressed on demand; scoring never loads it.
+     */
+    public Optional<String> getRawText(Long applicationId) {
+        return parsedCVRepository.findByApplicationId(applicationId)
+                .flatMap(parsedCV -> cvTextStore.load(parsedCV.getId()));
+    }
+
+    private ParsedCVData toParsedCVData(ParsedCV parsedCV) {
+        // Copy the lazy collections so the DTO is usable outside the transaction.
+        // The raw text is left out: it is stored separately and only read by getRawText
+        ParsedCVData data = new ParsedCVData(
+                new ArrayList<>(parsedCV.getExtractedSkills()),
+                parsedCV.getYearsOfExperience(),
+                parsedCV.getEducationLevel(),
+                new ArrayList<>(parsedCV.getCertifications()),
+                null);
+
+        if (hasCurrentSkillBits(parsedCV)) {
+            data.setSkillBits(parsedCV.getSkillBits());
+            data.setCertificationBits(parsedCV.getCertificationBits());
+        } else {
+            int width = skillVocabulary.size();
+            data.setSkillBits(skillVocabulary.bitsOf(data.getExtractedSkills(), width));
+            data.setCertificationBits(skillVocabulary.bitsOf(data.getCertifications(), width));
+        }
+        return data;
+    }
 }
@@ -0,0 +1,203 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.entity.JobCriteria;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, pre-processed form of a JobCriteria used by the scorer.
+ * Built once per (jobId, criteria version, skill taxonomy) so that scoring an
+ * applicant does not lowercase criteria lists or resolve education ranks again;
+ * skill terms are mapped to their taxonomy name, as the CV parser stores them,
+ * and matched as SkillVocabulary bitsets.
+ */
+public final class CompiledCriteria {
+
+    // Education hierarchy
+    static final Map<String, Integer> EDUCATION_RANK = Map.of(
+            "PhD", 5,
+            "Masters", 4,
+            "Bachelors", 3,
+            "Diploma", 2,
+            "Certificate", 1,
+            "Unknown", 0);
+
+    private final Long jobId;
+    private final Long version;
+    private final String taxonomyFingerprint;
+
+    // Vocabulary bitsets of the distinct criteria terms, and how many bits each has set
+    private final long[] requiredMask;
+    private final long[] preferredMask;
+    private final long[] keywordMask;
+    private final int requiredCount;
+    private final int preferredCount;
+    private final int keywordCount;
+
+    // Original spelling of required skills and their vocabulary IDs (same order), for explanations
+    private final List<String> requiredSkillNames;
+    private final int[] requiredSkillIds;
+
+    // Candidate meets the education requirement at or above minRequiredRank
+    private final boolean hasEducationRequirement;
+    private final int minRequiredRank;
+    private final int maxRequiredRank;
+
+    private final int minimumYearsExperience;
+
+    private final double skillsWeight;
+    private final double experienceWeight;
+    private final double educationWeight;
+    private final double keywordsWeight;
+
+    private CompiledCriteria(JobCriteria criteria, SkillVocabulary vocabulary, SkillTaxonomy taxonomy) {
+        this.jobId = criteria.getJob() != null ? criteria.getJob().getId() : null;
+        this.version = criteria.getVersion();
+        this.taxonomyFingerprint = taxonomy.fingerprint();
+
+        this.requiredSkillNames = criteria.getRequiredSkills() != null
+                ? criteria.getRequiredSkills().stream().filter(Objects::nonNull).toList()
+                : List.of();
+
+        // "Postgres" in the criteria has to hit the "PostgreSQL" the parser extracted
+        this.requiredMask = vocabulary.maskOf(canonical(criteria.getRequiredSkills(), taxonomy));
+        this.preferredMask = vocabulary.maskOf(canonical(criteria.getPreferredSkills(), taxonomy));
+        this.keywordMask = vocabulary.maskOf(canonical(criteria.getKeywords(), taxonomy));
+        this.requiredCount = SkillVocabulary.cardinality(requiredMask);
+        this.preferredCount = SkillVocabulary.cardinality(preferredMask);
+        this.keywordCount = SkillVocabulary.cardinality(keywordMask);
+        this.requiredSkillIds = canonical(requiredSkillNames, taxonomy).stream().mapToInt(vocabulary::idOf).toArray();
+
+        List<String> levels = criteria.getRequiredEducationLevels();
+        this.hasEducationRequirement = levels != null && !levels.isEmpty();
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        if (hasEducationRequirement) {
+            for (String level : levels) {
+                int rank = EDUCATION_RANK.getOrDefault(level, 0);
+                min = Math.min(min, rank);
+                max = Math.max(max, rank);
+            }
+        }
+        this.minRequiredRank = hasEducationRequirement ? min : 0;
+        this.maxRequiredRank = max;
+
+        this.minimumYearsExperience = criteria.getMinimumYearsExperience() != null
+                ? criteria.getMinimumYearsExperience()
+                : 0;
+
+        // Weights should sum to 1.0; rescale them if they were edited to something else
+        double skills = weightOrDefault(criteria.getSkillsWeight(), 0.40);
+        double experience = weightOrDefault(criteria.getExperienceWeight(), 0.25);
+        double education = weightOrDefault(criteria.getEducationWeight(), 0.20);
+        double keywordWeight = weightOrDefault(criteria.getKeywordsWeight(), 0.15);
+        double sum = skills + experience + education + keywordWeight;
+        double scale = sum > 0 && Math.abs(sum - 1.0) > 1e-9 ? 1.0 / sum : 1.0;
+        this.skillsWeight = skills * scale;
+        this.experienceWeight = experience * scale;
+        this.educationWeight = education * scale;
+        this.keywordsWeight = keywordWeight * scale;
+    }
+
+    public static CompiledCriteria compile(JobCriteria criteria, SkillVocabulary vocabulary, SkillTaxonomy taxonomy) {
+        return new CompiledCriteria(criteria, vocabulary, taxonomy);
+    }
+
+    // Taxonomy name of each skill spelling; other terms (certifications, free keywords) as written
+    private static List<String> canonical(List<String> terms, SkillTaxonomy taxonomy) {
+        if (terms == null) {
+            return List.of();
+        }
+        return terms.stream()
+                .filter(Objects::nonNull)
+                .map(term -> Objects.requireNonNullElse(taxonomy.canonicalSkill(term), term))
+                .toList();
+    }
+
+    private static double weightOrDefault(Double weight, double defaultWeight) {
+        return weight != null ? weight : defaultWeight;
+    }
+
+    public static int educationRank(String level) {
+        return level != null ? EDUCATION_RANK.getOrDefault(level, 0) : 0;
+    }
+
+    // Getters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getTaxonomyFingerprint() {
+        return taxonomyFingerprint;
+    }
+
+    long[] requiredMask() {
+        return requiredMask;
+    }
+
+    long[] preferredMask() {
+        return preferredMask;
+    }
+
+    long[] keywordMask() {
+        return keywordMask;
+    }
+
+    public int getRequiredCount() {
+        return requiredCount;
+    }
+
+    public int getPreferredCount() {
+        return preferredCount;
+    }
+
+    public int getKeywordCount() {
+        return keywordCount;
+    }
+
+    public List<String> getRequiredSkillNames() {
+        return requiredSkillNames;
+    }
+
+    int[] requiredSkillIds() {
+        return requiredSkillIds;
+    }
+
+    public boolean hasEducationRequirement() {
+        return hasEducationRequirement;
+    }
+
+    public int getMinRequiredRank() {
+        return minRequiredRank;
+    }
+
+    public int getMaxRequiredRank() {
+        return maxRequiredRank;
+    }
+
+    public int getMinimumYearsExperience() {
+        return minimumYearsExperience;
+    }
+
+    public double getSkillsWeight() {
+        return skillsWeight;
+    }
+
+    public double getExperienceWeight() {
+        return experienceWeight;
+    }
+
+    public double getEducationWeight() {
+        return educationWeight;
+    }
+
+    public double getKeywordsWeight() {
+        return keywordsWeight;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.entity.JobCriteria;
+import com.example.hrautoshortlist.entity.JobCriteriaChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches one CompiledCriteria per job. An entry is reused only while its version
+ * matches the JobCriteria passed in and it was compiled against the skill
+ * taxonomy in use, and is evicted whenever the criteria are saved.
+ */
+@Service
+public class CompiledCriteriaCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledCriteriaCache.class);
+
+    private final SkillVocabulary skillVocabulary;
+    private final SkillTaxonomyService skillTaxonomyService;
+
+    private final Map<Long, CompiledCriteria> byJobId = new ConcurrentHashMap<>();
+
+    public CompiledCriteriaCache(SkillVocabulary skillVocabulary, SkillTaxonomyService skillTaxonomyService) {
+        this.skillVocabulary = skillVocabulary;
+        this.skillTaxonomyService = skillTaxonomyService;
+    }
+
+    /**
+     * Get the compiled form of the given criteria, compiling it if needed.
+     * The criteria's collections must already be loaded. Call this outside a
+     * transaction: compiling adds new criteria terms to the vocabulary, which
+     * commits them on a connection of its own.
+     */
+    public CompiledCriteria get(JobCriteria criteria) {
+        Long jobId = criteria.getJob() != null ? criteria.getJob().getId() : null;
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        if (jobId == null) {
+            return CompiledCriteria.compile(criteria, skillVocabulary, taxonomy);
+        }
+
+        // A taxonomy change can map a criteria term to another skill, so it is part of the key
+        CompiledCriteria cached = byJobId.get(jobId);
+        if (cached != null && Objects.equals(cached.getVersion(), criteria.getVersion())
+                && cached.getTaxonomyFingerprint().equals(taxonomy.fingerprint())) {
+            return cached;
+        }
+
+        // Compiled outside the map, so a slow vocabulary insert does not hold up other jobs.
+        // Two threads may both compile the same version; either result is correct
+        logger.info("Compiling scoring criteria for job {} (version {}, taxonomy {})", jobId, criteria.getVersion(),
+                taxonomy.fingerprint());
+        CompiledCriteria compiled = CompiledCriteria.compile(criteria, skillVocabulary, taxonomy);
+        byJobId.put(jobId, compiled);
+        return compiled;
+    }
+
+    @EventListener
+    public void onJobCriteriaChanged(JobCriteriaChangedEvent event) {
+        evict(event.jobId());
+    }
+
+    public void evict(Long jobId) {
+        if (jobId != null && byJobId.remove(jobId) != null) {
+            logger.info("Evicted compiled scoring criteria for job {}", jobId);
+        }
+    }
+}
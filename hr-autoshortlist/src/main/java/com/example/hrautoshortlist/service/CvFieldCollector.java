@@ -0,0 +1,529 @@
+package com.example.hrautoshortlist.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts all structured CV fields in a single pass while the document text
+ * streams in, so no field needs the whole document in memory.
+ *
+ * Each line is visited twice at most: once by one Aho-Corasick automaton over
+ * every spelling of every skill and certification term, and once by a tokenizer
+ * ({@link LineScan}) that notes which trigger words the line contains. The
+ * field patterns are precompiled and only run on lines whose triggers show they
+ * can match, and the line is lowercased at most once, when an education
+ * pattern has to run.
+ */
+public class CvFieldCollector implements TextLineListener {
+
+    private final Dictionary dictionary;
+
+    // Dictionary hits, indexed like dictionary.forms
+    private final boolean[] hits;
+    private int hitCount;
+
+    private final SectionField skillsSection = SectionField.skills();
+    private final SectionField certificationsSection = SectionField.certifications();
+    private final YearsOfExperienceField yearsOfExperience = new YearsOfExperienceField();
+    private final EducationLevelField educationLevel = new EducationLevelField();
+
+    // Reused for every line
+    private final LineScan scan = new LineScan();
+
+    public CvFieldCollector(Dictionary dictionary) {
+        this.dictionary = dictionary;
+        this.hits = new boolean[dictionary.forms.size()];
+    }
+
+    @Override
+    public void onLine(String line) {
+        if (hitCount < hits.length) {
+            hitCount += dictionary.forms.collect(line, hits);
+        }
+
+        scan.reset(line);
+        skillsSection.onLine(line, scan);
+        certificationsSection.onLine(line, scan);
+        yearsOfExperience.onLine(line, scan);
+        educationLevel.onLine(scan);
+    }
+
+    @Override
+    public boolean isResolved() {
+        return hitCount == hits.length && skillsSection.isFound() && certificationsSection.isFound()
+                && yearsOfExperience.isResolved() && educationLevel.isResolved();
+    }
+
+    /**
+     * Canonical names of the skills found anywhere in the text (dictionary order),
+     * followed by the entries of the first "Skills:" style section line.
+     */
+    public List<String> getSkills() {
+        return skillsSection.merge(dictionary.termsFound(hits, 0, dictionary.skillCount));
+    }
+
+    /**
+     * Same as {@link #getSkills()} for the certification dictionary and section.
+     */
+    public List<String> getCertifications() {
+        return certificationsSection.merge(
+                dictionary.termsFound(hits, dictionary.skillCount, dictionary.terms.length));
+    }
+
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience.result();
+    }
+
+    public String getEducationLevel() {
+        return educationLevel.result();
+    }
+
+    /**
+     * Feed a complete text to a listener line by line.
+     */
+    static <T extends TextLineListener> T feed(String text, T listener) {
+        int start = 0;
+        while (start <= text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            if (end > start) {
+                listener.onLine(text.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return listener;
+    }
+
+    /**
+     * Skill and certification terms compiled into one automaton over all their
+     * spellings (canonical name and synonyms), each mapped back to its term so
+     * results use the canonical name. Immutable; built by {@link SkillTaxonomy}
+     * and shared between parse threads.
+     */
+    public static final class Dictionary {
+
+        // Every spelling, and the index in terms of the term it stands for
+        private final KeywordMatcher forms;
+        private final int[] termOfForm;
+
+        // Canonical names: skills first, then certifications
+        private final String[] terms;
+        private final int skillCount;
+
+        Dictionary(List<String> forms, int[] termOfForm, String[] terms, int skillCount) {
+            this.forms = KeywordMatcher.of(forms);
+            if (this.forms.size() != forms.size()) {
+                throw new IllegalArgumentException("Dictionary spellings must be unique and non-blank");
+            }
+            this.termOfForm = termOfForm;
+            this.terms = terms;
+            this.skillCount = skillCount;
+        }
+
+        /**
+         * Canonical names of the terms in [from, to) with at least one spelling
+         * marked in {@code hits}, in term order.
+         */
+        List<String> termsFound(boolean[] hits, int from, int to) {
+            boolean[] found = new boolean[terms.length];
+            for (int f = 0; f < hits.length; f++) {
+                if (hits[f]) {
+                    found[termOfForm[f]] = true;
+                }
+            }
+            List<String> names = new ArrayList<>();
+            for (int t = from; t < to; t++) {
+                if (found[t]) {
+                    names.add(terms[t]);
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Trigger words of one line, found by splitting it into runs of ASCII
+     * letters. Each trigger is a necessary condition for one of the field
+     * patterns, so a pattern whose trigger is absent cannot match the line and is
+     * not run. The triggers are matched case-insensitively, like the patterns.
+     */
+    static final class LineScan {
+
+        static final int DIGIT = 1;
+        static final int FOUR_DIGITS = 1 << 1;
+        static final int DASH = 1 << 2;
+        static final int YEAR = 1 << 3;
+        static final int EXPERIENCE = 1 << 4;
+        static final int SKILL = 1 << 5;
+        static final int CERTIFICATION = 1 << 6;
+        static final int PHD = 1 << 7;
+        static final int MASTERS = 1 << 8;
+        static final int BACHELORS = 1 << 9;
+        static final int DIPLOMA = 1 << 10;
+        static final int CERTIFICATE = 1 << 11;
+
+        private String line;
+        private String lower;
+        private int flags;
+
+        void reset(String line) {
+            this.line = line;
+            this.lower = null;
+            this.flags = tokenize(line);
+        }
+
+        boolean has(int flag) {
+            return (flags & flag) != 0;
+        }
+
+        boolean hasAll(int flagSet) {
+            return (flags & flagSet) == flagSet;
+        }
+
+        String lower() {
+            if (lower == null) {
+                lower = line.toLowerCase(Locale.ROOT);
+            }
+            return lower;
+        }
+
+        static int tokenize(String line) {
+            int flags = 0;
+            int wordStart = -1;
+            int digitRun = 0;
+            for (int i = 0; i <= line.length(); i++) {
+                char c = i < line.length() ? line.charAt(i) : ' ';
+                if (isAsciiLetter(c)) {
+                    if (wordStart < 0) {
+                        wordStart = i;
+                    }
+                    digitRun = 0;
+                    continue;
+                }
+                if (wordStart >= 0) {
+                    flags |= classify(line, wordStart, i);
+                    wordStart = -1;
+                }
+                if (c >= '0' && c <= '9') {
+                    flags |= DIGIT;
+                    if (++digitRun >= 4) {
+                        flags |= FOUR_DIGITS;
+                    }
+                } else {
+                    digitRun = 0;
+                    if (c == '-') {
+                        flags |= DASH;
+                    }
+                }
+            }
+            return flags;
+        }
+
+        // Triggers of the word line[start, end)
+        private static int classify(String line, int start, int end) {
+            int flags = 0;
+
+            // Words the patterns require at a word start
+            switch (toLowerAscii(line.charAt(start))) {
+                case 'y' -> flags |= startsWith(line, start, end, "year") ? YEAR : 0;
+                case 'e' -> flags |= startsWith(line, start, end, "experience") ? EXPERIENCE : 0;
+                case 'p' -> flags |= startsWith(line, start, end, "ph") ? PHD : 0;
+                case 'd' -> flags |= startsWith(line, start, end, "doctor") ? PHD
+                        : isWord(line, start, end, "degree") ? BACHELORS : 0;
+                case 'm' -> flags |= startsWith(line, start, end, "master") || isWord(line, start, end, "m")
+                        || isWord(line, start, end, "ma") || isWord(line, start, end, "msc")
+                        || isWord(line, start, end, "mba") ? MASTERS : 0;
+                case 'b' -> flags |= startsWith(line, start, end, "bachelor") || isWord(line, start, end, "b")
+                        || isWord(line, start, end, "ba") || isWord(line, start, end, "bsc") ? BACHELORS : 0;
+                case 'u' -> flags |= isWord(line, start, end, "undergraduate") ? BACHELORS : 0;
+                default -> {
+                }
+            }
+
+            // Words the patterns look for anywhere
+            for (int i = start; i < end; i++) {
+                switch (toLowerAscii(line.charAt(i))) {
+                    case 's' -> flags |= startsWith(line, i, end, "skill") ? SKILL : 0;
+                    case 'c' -> flags |= startsWith(line, i, end, "certification") ? CERTIFICATION | CERTIFICATE
+                            : startsWith(line, i, end, "certificate") ? CERTIFICATE : 0;
+                    case 'd' -> flags |= startsWith(line, i, end, "diploma") ? DIPLOMA : 0;
+                    case 'h' -> flags |= startsWith(line, i, end, "hnd") ? DIPLOMA : 0;
+                    case 'a' -> flags |= startsWith(line, i, end, "associate") ? DIPLOMA : 0;
+                    default -> {
+                    }
+                }
+            }
+            return flags;
+        }
+
+        private static boolean startsWith(String line, int start, int end, String word) {
+            return end - start >= word.length() && line.regionMatches(true, start, word, 0, word.length());
+        }
+
+        private static boolean isWord(String line, int start, int end, String word) {
+            return end - start == word.length() && line.regionMatches(true, start, word, 0, word.length());
+        }
+
+        private static boolean isAsciiLetter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private static char toLowerAscii(char c) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+    }
+
+    /**
+     * Entries of the first "Skills:"/"Certifications:" style section line, or of
+     * the line after a bare section heading.
+     */
+    static final class SectionField {
+
+        private static final Pattern SKILLS_SECTION = sectionPattern("skills?", 200);
+        private static final Pattern SKILLS_HEADING = headingPattern("skills?");
+        private static final Pattern CERTIFICATIONS_SECTION = sectionPattern("certifications?", 300);
+        private static final Pattern CERTIFICATIONS_HEADING = headingPattern("certifications?");
+
+        private final Pattern section;
+        private final Pattern heading;
+        private final int trigger;
+        private final int maxSectionLength;
+        private final int minLength;
+        private final int maxLength;
+
+        private final Set<String> entries = new LinkedHashSet<>();
+        private boolean found;
+        private boolean headingPending;
+
+        private SectionField(Pattern section, Pattern heading, int trigger, int maxSectionLength,
+                int minLength, int maxLength) {
+            this.section = section;
+            this.heading = heading;
+            this.trigger = trigger;
+            this.maxSectionLength = maxSectionLength;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+        }
+
+        static SectionField skills() {
+            return new SectionField(SKILLS_SECTION, SKILLS_HEADING, LineScan.SKILL, 200, 2, 50);
+        }
+
+        static SectionField certifications() {
+            return new SectionField(CERTIFICATIONS_SECTION, CERTIFICATIONS_HEADING, LineScan.CERTIFICATION,
+                    300, 3, 100);
+        }
+
+        private static Pattern sectionPattern(String word, int maxSectionLength) {
+            return Pattern.compile(word + "\\s*:?\\s*([^\\n]{10," + maxSectionLength + "})", Pattern.CASE_INSENSITIVE);
+        }
+
+        // Section word with nothing after it: its entries are on the next line
+        private static Pattern headingPattern(String word) {
+            return Pattern.compile(word + "\\s*:?\\s*$", Pattern.CASE_INSENSITIVE);
+        }
+
+        void onLine(String line, LineScan scan) {
+            if (found) {
+                return;
+            }
+            if (headingPending) {
+                String sectionLine = line.strip();
+                if (sectionLine.isEmpty()) {
+                    return;
+                }
+                headingPending = false;
+                if (sectionLine.length() >= 10) {
+                    addEntries(sectionLine.length() > maxSectionLength
+                            ? sectionLine.substring(0, maxSectionLength)
+                            : sectionLine);
+                    return;
+                }
+            }
+            if (!scan.has(trigger)) {
+                return;
+            }
+
+            Matcher m = section.matcher(line);
+            if (m.find()) {
+                addEntries(m.group(1));
+            } else if (heading.matcher(line).find()) {
+                headingPending = true;
+            }
+        }
+
+        private void addEntries(String sectionLine) {
+            found = true;
+            for (String part : sectionLine.split("[,;|]")) {
+                String trimmed = part.trim();
+                if (trimmed.length() > minLength && trimmed.length() < maxLength) {
+                    entries.add(trimmed);
+                }
+            }
+        }
+
+        boolean isFound() {
+            return found;
+        }
+
+        List<String> merge(List<String> dictionaryHits) {
+            Set<String> all = new LinkedHashSet<>(dictionaryHits);
+            all.addAll(entries);
+            return new ArrayList<>(all);
+        }
+    }
+
+    /**
+     * An explicit "N years of experience" wins; otherwise the spans of all
+     * "YYYY - YYYY/present" date ranges are added up.
+     */
+    static final class YearsOfExperienceField {
+
+        private static final Pattern STATED = Pattern.compile(
+                "(\\d+)\\s*\\+?\\s*(?:-\\s*\\d+\\s*)?years?\\s+(?:of\\s+)?experience", Pattern.CASE_INSENSITIVE);
+        private static final Pattern DATE_RANGE = Pattern.compile(
+                "(\\d{4})\\s*-\\s*(\\d{4}|present|current)", Pattern.CASE_INSENSITIVE);
+
+        private static final int STATED_TRIGGERS = LineScan.DIGIT | LineScan.YEAR | LineScan.EXPERIENCE;
+        private static final int DATE_RANGE_TRIGGERS = LineScan.FOUR_DIGITS | LineScan.DASH;
+
+        // Year used for open-ended ranges ("2019 - present")
+        private static final int CURRENT_YEAR = 2026;
+
+        private Integer statedYears;
+        private int rangeYears;
+
+        void onLine(String line, LineScan scan) {
+            if (statedYears != null) {
+                return;
+            }
+            if (scan.hasAll(STATED_TRIGGERS)) {
+                Matcher stated = STATED.matcher(line);
+                if (stated.find()) {
+                    statedYears = Integer.parseInt(stated.group(1));
+                    return;
+                }
+            }
+
+            if (scan.hasAll(DATE_RANGE_TRIGGERS)) {
+                Matcher range = DATE_RANGE.matcher(line);
+                while (range.find()) {
+                    int startYear = Integer.parseInt(range.group(1));
+                    String endYearStr = range.group(2);
+                    int endYear = Character.isDigit(endYearStr.charAt(0)) ? Integer.parseInt(endYearStr) : CURRENT_YEAR;
+                    rangeYears += (endYear - startYear);
+                }
+            }
+        }
+
+        boolean isResolved() {
+            return statedYears != null;
+        }
+
+        Integer result() {
+            if (statedYears != null) {
+                return statedYears;
+            }
+            return rangeYears > 0 ? rangeYears : null;
+        }
+    }
+
+    /**
+     * Highest education level mentioned anywhere; resolved as soon as a PhD is found.
+     */
+    static final class EducationLevelField {
+
+        private static final Pattern PHD = Pattern.compile("\\b(ph\\.?d|doctorate|doctor of philosophy)\\b");
+        private static final Pattern MASTERS = Pattern.compile(
+                "\\b(master(?:'s)?\\s+(?:of|degree)|msc|m\\.sc|mba|m\\.a|ma|m\\.phil)\\b");
+        private static final Pattern BACHELORS = Pattern.compile(
+                "\\b(bachelor(?:'s)?|bsc|b\\.sc|b\\.a|ba|undergraduate|degree)\\b");
+
+        // Contexts where "master" does NOT mean a degree
+        private static final String[] MASTERS_EXCLUSIONS = {
+                "scrum master", "web master", "headmaster", "mastered", "mastery", "postmaster"
+        };
+
+        private static final String[] LEVELS = { "Unknown", "Certificate", "Diploma", "Bachelors", "Masters", "PhD" };
+
+        private int rank;
+
+        void onLine(LineScan scan) {
+            if (rank < ceilingOf(scan)) {
+                rank = Math.max(rank, rankOf(scan));
+            }
+        }
+
+        // Highest rank the line could give, judging by its triggers alone
+        private static int ceilingOf(LineScan scan) {
+            if (scan.has(LineScan.PHD)) {
+                return 5;
+            }
+            if (scan.has(LineScan.MASTERS)) {
+                return 4;
+            }
+            if (scan.has(LineScan.BACHELORS)) {
+                return 3;
+            }
+            if (scan.has(LineScan.DIPLOMA)) {
+                return 2;
+            }
+            return scan.has(LineScan.CERTIFICATE) ? 1 : 0;
+        }
+
+        private static int rankOf(LineScan scan) {
+            String lower = scan.lower();
+            if (scan.has(LineScan.PHD) && PHD.matcher(lower).find()) {
+                return 5;
+            }
+
+            if (scan.has(LineScan.MASTERS)) {
+                Matcher m = MASTERS.matcher(lower);
+                while (m.find()) {
+                    String surroundingText = lower.substring(Math.max(0, m.start() - 10),
+                            Math.min(lower.length(), m.end() + 10));
+                    if (!containsAny(surroundingText, MASTERS_EXCLUSIONS)) {
+                        return 4;
+                    }
+                }
+            }
+
+            if (scan.has(LineScan.BACHELORS) && BACHELORS.matcher(lower).find()) {
+                return 3;
+            }
+            if (scan.has(LineScan.DIPLOMA)
+                    && (lower.contains("diploma") || lower.contains("hnd") || lower.contains("associate"))) {
+                return 2;
+            }
+            if (scan.has(LineScan.CERTIFICATE)
+                    && (lower.contains("certificate") || lower.contains("certification"))) {
+                return 1;
+            }
+            return 0;
+        }
+
+        private static boolean containsAny(String text, String[] values) {
+            for (String value : values) {
+                if (text.contains(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isResolved() {
+            return rank == 5;
+        }
+
+        String result() {
+            return LEVELS[rank];
+        }
+    }
+}
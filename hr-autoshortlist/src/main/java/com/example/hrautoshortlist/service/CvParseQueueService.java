@@ -0,0 +1,247 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.dto.CvParseStatus;
+import com.example.hrautoshortlist.entity.Application;
+import com.example.hrautoshortlist.entity.CvParseTask;
+import com.example.hrautoshortlist.entity.ParsedCV;
+import com.example.hrautoshortlist.repository.ApplicationRepository;
+import com.example.hrautoshortlist.repository.CvParseTaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Durable queue of CV parses, so a candidate's upload request only stores the
+ * files and the parse happens in the background.
+ *
+ * Tasks live in cv_parse_tasks. Every node polls the table and claims due tasks
+ * with FOR UPDATE SKIP LOCKED, so nodes share the work without handing the same
+ * task to two workers. A failed parse is retried with exponential backoff up to
+ * shortlist.parse-queue.max-attempts times. Tasks held by a node that died are
+ * released after shortlist.parse-queue.lock-timeout-minutes. New applications
+ * add their task in the transaction that inserts them, so a crash between the
+ * two cannot leave a CV that is never parsed.
+ */
+@Service
+public class CvParseQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvParseQueueService.class);
+
+    private final CvParseTaskRepository taskRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CVParsingService cvParsingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService ioExecutor;
+
+    // Free worker slots on this node
+    private final Semaphore slots;
+    private final String workerId;
+
+    @Value("${shortlist.parse-queue.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${shortlist.parse-queue.backoff-seconds:30}")
+    private long backoffSeconds = 30;
+
+    @Value("${shortlist.parse-queue.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds = 3600;
+
+    @Value("${shortlist.parse-queue.lock-timeout-minutes:10}")
+    private long lockTimeoutMinutes = 10;
+
+    public CvParseQueueService(CvParseTaskRepository taskRepository,
+            ApplicationRepository applicationRepository,
+            CVParsingService cvParsingService,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            WorkerIdentity workerIdentity,
+            @Qualifier("cvIoExecutor") ExecutorService ioExecutor,
+            @Value("${shortlist.parse-queue.workers:4}") int workers) {
+        this.taskRepository = taskRepository;
+        this.applicationRepository = applicationRepository;
+        this.cvParsingService = cvParsingService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.ioExecutor = ioExecutor;
+        this.slots = new Semaphore(workers);
+        this.workerId = workerIdentity.id();
+    }
+
+    /**
+     * Queue (or re-queue) the CV of an application for parsing and wake up this
+     * node's workers instead of waiting for the next poll.
+     */
+    public void enqueue(Long applicationId) {
+        transactionTemplate.executeWithoutResult(status -> addTask(applicationId));
+        wakeUp();
+    }
+
+    /**
+     * Queue the CV of an application as part of the caller's transaction, so
+     * the task commits or rolls back together with whatever required it. Call
+     * {@link #wakeUp()} after the commit to start on it before the next poll.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTask(Long applicationId) {
+        CvParseTask task = taskRepository.findByApplicationId(applicationId)
+                .orElseGet(() -> new CvParseTask(applicationId));
+        if ("IN_PROGRESS".equals(task.getStatus())) {
+            return; // A worker is on it already
+        }
+        task.setStatus("PENDING");
+        task.setAttempts(0);
+        task.setNextAttemptAt(LocalDateTime.now());
+        task.setLastError(null);
+        taskRepository.save(task);
+        logger.info("CV of application {} queued for parsing", applicationId);
+    }
+
+    /**
+     * Let this node's workers look for due tasks now.
+     */
+    public void wakeUp() {
+        ioExecutor.execute(this::poll);
+    }
+
+    /**
+     * Parse state of an application's CV.
+     */
+    public CvParseStatus getStatus(Long applicationId) {
+        if (!applicationRepository.existsById(applicationId)) {
+            throw new IllegalArgumentException("Application not found with ID: " + applicationId);
+        }
+        return taskRepository.findByApplicationId(applicationId)
+                .map(task -> new CvParseStatus(applicationId, task.getStatus(), task.getAttempts(),
+                        task.getNextAttemptAt(), task.getLastError(), task.getUpdatedAt()))
+                .orElseGet(() -> new CvParseStatus(applicationId, "NOT_QUEUED", 0, null, null, null));
+    }
+
+    /**
+     * Claim as many due tasks as this node has free workers and start them.
+     */
+    @Scheduled(fixedDelayString = "${shortlist.parse-queue.poll-interval-ms:2000}")
+    public void poll() {
+        int permits = slots.drainPermits();
+        if (permits == 0) {
+            return;
+        }
+
+        List<CvParseTask> claimed;
+        try {
+            claimed = claim(permits);
+        } catch (RuntimeException e) {
+            slots.release(permits);
+            logger.error("Could not claim CV parse tasks", e);
+            return;
+        }
+        slots.release(permits - claimed.size());
+
+        for (CvParseTask task : claimed) {
+            ioExecutor.execute(() -> {
+                try {
+                    process(task);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    private List<CvParseTask> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<CvParseTask> due = taskRepository.lockDue(now, limit);
+            for (CvParseTask task : due) {
+                task.setStatus("IN_PROGRESS");
+                task.setAttempts(task.getAttempts() + 1);
+                task.setLockedBy(workerId);
+                task.setLockedAt(now);
+            }
+            return due;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${shortlist.parse-queue.stale-check-interval-ms:60000}")
+    public void releaseStaleTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = taskRepository.releaseStale(now.minusMinutes(lockTimeoutMinutes), now);
+        if (released > 0) {
+            logger.warn("Released {} CV parse tasks held longer than {} minutes", released, lockTimeoutMinutes);
+        }
+    }
+
+    private void process(CvParseTask task) {
+        Long applicationId = task.getApplicationId();
+        String error;
+        boolean timedOut = false;
+        try {
+            Application application = applicationRepository.findById(applicationId).orElse(null);
+            if (application == null) {
+                complete(task, "FAILED", "Application no longer exists");
+                return;
+            }
+            ParsedCV parsed = cvParsingService.parseUnlessCurrent(application);
+            error = "SUCCESS".equals(parsed.getParsingStatus()) ? null : parsed.getParsingError();
+            timedOut = "TIMEOUT".equals(parsed.getParsingStatus());
+        } catch (Exception e) {
+            logger.error("CV parse task for application {} failed", applicationId, e);
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+
+        String outcome;
+        if (error == null) {
+            outcome = complete(task, "SUCCEEDED", null);
+        } else if (timedOut || task.getAttempts() >= maxAttempts) {
+            // A document that ran out of time would only do so again
+            outcome = complete(task, "FAILED", error);
+            logger.warn("Giving up parsing CV of application {} after {} attempts: {}",
+                    applicationId, task.getAttempts(), error);
+        } else {
+            outcome = complete(task, "PENDING", error);
+            logger.info("CV parse of application {} failed (attempt {}), will retry", applicationId, task.getAttempts());
+        }
+
+        if ("SUCCEEDED".equals(outcome) || "FAILED".equals(outcome)) {
+            // Score against the job criteria (fallback scoring if the parse failed for good)
+            eventPublisher.publishEvent(new ApplicationIngestedEvent(applicationId));
+        }
+    }
+
+    /**
+     * Store the outcome of an attempt, unless the task was released and claimed
+     * again meanwhile. Returns the stored status, or null if it was not ours.
+     */
+    private String complete(CvParseTask claimed, String status, String error) {
+        return transactionTemplate.execute(tx -> taskRepository.findById(claimed.getId())
+                .filter(task -> "IN_PROGRESS".equals(task.getStatus()) && workerId.equals(task.getLockedBy()))
+                .map(task -> {
+                    task.setStatus(status);
+                    task.setLockedBy(null);
+                    task.setLockedAt(null);
+                    task.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+                    if ("PENDING".equals(status)) {
+                        task.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffFor(task.getAttempts())));
+                    }
+                    return status;
+                })
+                .orElse(null));
+    }
+
+    // backoffSeconds, doubled for every further attempt
+    private long backoffFor(int attempts) {
+        return Math.min(maxBackoffSeconds, backoffSeconds << Math.min(attempts - 1, 20));
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.dto.CvReparseStatus;
+import com.example.hrautoshortlist.entity.Application;
+import com.example.hrautoshortlist.entity.CvReparseJob;
+import com.example.hrautoshortlist.entity.ParsedCV;
+import com.example.hrautoshortlist.repository.ApplicationRepository;
+import com.example.hrautoshortlist.repository.CvReparseJobRepository;
+import com.example.hrautoshortlist.repository.ParsedCVRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin-triggered background re-parse of every stored parse made by an older
+ * extractor version (see CVParsingService.PARSER_VERSION), so shortlisting
+ * finds current results instead of re-parsing inline.
+ *
+ * A job walks the stale parses in ID order at no more than its rate per second
+ * and checkpoints after each CV. The node running it renews a lease with every
+ * checkpoint; a job whose lease has run out (node crash or restart) is taken
+ * over by the next resume check on any node and continues after the last
+ * checkpoint.
+ */
+@Service
+public class CvReparseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvReparseService.class);
+
+    private static final int BATCH_SIZE = 100;
+
+    private final CvReparseJobRepository jobRepository;
+    private final ParsedCVRepository parsedCVRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CVParsingService cvParsingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService ioExecutor;
+    private final String workerId;
+
+    @Value("${shortlist.reparse.rate-per-second:2}")
+    private double defaultRatePerSecond = 2;
+
+    @Value("${shortlist.reparse.lease-timeout-seconds:120}")
+    private long leaseTimeoutSeconds = 120;
+
+    public CvReparseService(CvReparseJobRepository jobRepository,
+            ParsedCVRepository parsedCVRepository,
+            ApplicationRepository applicationRepository,
+            CVParsingService cvParsingService,
+            ApplicationEventPublisher eventPublisher,
+            WorkerIdentity workerIdentity,
+            @Qualifier("cvIoExecutor") ExecutorService ioExecutor) {
+        this.jobRepository = jobRepository;
+        this.parsedCVRepository = parsedCVRepository;
+        this.applicationRepository = applicationRepository;
+        this.cvParsingService = cvParsingService;
+        this.eventPublisher = eventPublisher;
+        this.ioExecutor = ioExecutor;
+        this.workerId = workerIdentity.id();
+    }
+
+    /**
+     * Start re-parsing all stale parses on this node.
+     *
+     * @param ratePerSecond max re-parses per second, or null for the configured default
+     * @throws IllegalStateException if a re-parse job is already running
+     */
+    public synchronized CvReparseStatus start(Double ratePerSecond) {
+        if (jobRepository.existsByStatus("RUNNING")) {
+            throw new IllegalStateException("A CV re-parse job is already running");
+        }
+        int targetVersion = CVParsingService.PARSER_VERSION;
+        double rate = ratePerSecond != null ? ratePerSecond : defaultRatePerSecond;
+        CvReparseJob job = jobRepository.save(
+                new CvReparseJob(targetVersion, rate, (int) parsedCVRepository.countStale(targetVersion)));
+        logger.info("CV re-parse job {} started: {} parses older than version {}, {} per second",
+                job.getId(), job.getTotalCount(), targetVersion, rate);
+
+        claimAndRun(job.getId());
+        return toStatus(job);
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no such job
+     * @throws IllegalStateException    if the job is not running
+     */
+    public CvReparseStatus cancel(Long jobId) {
+        CvReparseJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Re-parse job not found with ID: " + jobId));
+        if (jobRepository.cancel(jobId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Re-parse job " + jobId + " is " + job.getStatus());
+        }
+        logger.info("CV re-parse job {} cancelled", jobId);
+        return getStatus(jobId);
+    }
+
+    public CvReparseStatus getStatus(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toStatus)
+                .orElseThrow(() -> new IllegalArgumentException("Re-parse job not found with ID: " + jobId));
+    }
+
+    public Optional<CvReparseStatus> getLatestStatus() {
+        return jobRepository.findFirstByOrderByIdDesc().map(this::toStatus);
+    }
+
+    /**
+     * Pick up running jobs whose node has stopped sending heartbeats, including
+     * this node's own jobs after a restart.
+     */
+    @Scheduled(fixedDelayString = "${shortlist.reparse.resume-check-interval-ms:30000}")
+    public void resumeAbandonedJobs() {
+        try {
+            for (CvReparseJob job : jobRepository.findByStatus("RUNNING")) {
+                // Only skips jobs this process is running; a restarted process has a new ID
+                if (!workerId.equals(job.getLockedBy())) {
+                    claimAndRun(job.getId());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Could not check for abandoned CV re-parse jobs", e);
+        }
+    }
+
+    private void claimAndRun(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.claim(jobId, workerId, now, now.minusSeconds(leaseTimeoutSeconds)) == 1) {
+            ioExecutor.execute(() -> run(jobId));
+        }
+    }
+
+    private void run(Long jobId) {
+        CvReparseJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        if (job.getProcessedCount() > 0) {
+            logger.info("Resuming CV re-parse job {} after parsed CV {} ({} of {} done)", jobId,
+                    job.getLastParsedCvId(), job.getProcessedCount(), job.getTotalCount());
+        }
+
+        // Pace by start time, so slow parses are not followed by an extra wait
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / job.getRatePerSecond());
+        long nextStart = System.nanoTime();
+        long lastId = job.getLastParsedCvId();
+        try {
+            List<Long> ids;
+            do {
+                ids = parsedCVRepository.findStaleIdsAfter(job.getTargetVersion(), lastId,
+                        PageRequest.of(0, BATCH_SIZE));
+                for (Long parsedCvId : ids) {
+                    long wait = nextStart - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    nextStart = Math.max(nextStart, System.nanoTime()) + intervalNanos;
+
+                    boolean reparsed = reparse(parsedCvId);
+                    lastId = parsedCvId;
+                    if (jobRepository.checkpoint(jobId, workerId, parsedCvId, reparsed ? 1 : 0, reparsed ? 0 : 1,
+                            LocalDateTime.now()) == 0) {
+                        logger.info("CV re-parse job {} stopped at parsed CV {} (cancelled or taken over)", jobId,
+                                parsedCvId);
+                        return;
+                    }
+                }
+            } while (ids.size() == BATCH_SIZE);
+
+            jobRepository.finish(jobId, workerId, "COMPLETED", null, LocalDateTime.now());
+            logger.info("CV re-parse job {} completed", jobId);
+
+        } catch (InterruptedException e) {
+            // Shutting down; the lease runs out and the job resumes from the checkpoint
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("CV re-parse job {} failed after parsed CV {}", jobId, lastId, e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            jobRepository.finish(jobId, workerId, "FAILED", error.length() > 1000 ? error.substring(0, 1000) : error,
+                    LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Re-parse one stale parse and rescore its application.
+     *
+     * @return false if the CV could not be parsed (the failure is stored on the parse)
+     */
+    private boolean reparse(Long parsedCvId) {
+        Optional<Application> application = parsedCVRepository.findApplicationIdById(parsedCvId)
+                .flatMap(applicationRepository::findById);
+        if (application.isEmpty()) {
+            return false;
+        }
+        try {
+            ParsedCV parsed = cvParsingService.parseUnlessCurrent(application.get());
+            eventPublisher.publishEvent(new ApplicationIngestedEvent(application.get().getId()));
+            return "SUCCESS".equals(parsed.getParsingStatus());
+        } catch (Exception e) {
+            logger.warn("Re-parsing CV of application {} failed: {}", application.get().getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private CvReparseStatus toStatus(CvReparseJob job) {
+        CvReparseStatus status = new CvReparseStatus();
+        status.setJobId(job.getId());
+        status.setStatus(job.getStatus());
+        status.setTargetVersion(job.getTargetVersion());
+        status.setRatePerSecond(job.getRatePerSecond());
+        status.setTotal(job.getTotalCount());
+        status.setProcessed(job.getProcessedCount());
+        status.setReparsed(job.getReparsedCount());
+        status.setFailed(job.getFailedCount());
+        if ("RUNNING".equals(job.getStatus())) {
+            int remaining = Math.max(0, job.getTotalCount() - job.getProcessedCount());
+            status.setEtaSeconds((long) Math.ceil(remaining / job.getRatePerSecond()));
+        }
+        status.setStartedAt(job.getStartedAt());
+        status.setUpdatedAt(job.getUpdatedAt());
+        status.setCompletedAt(job.getCompletedAt());
+        status.setError(job.getError());
+        return status;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.hrautoshortlist.service;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Format-specific text extractor that CVParsingService tries before Tika's
+ * auto-detection. Implementations are Spring beans, consulted in @Order; the
+ * first one accepting a file's leading bytes is used, and Tika handles every
+ * file no extractor takes.
+ *
+ * Text is written to the handler as SAX characters between startDocument and
+ * endDocument, with a '\n' after every paragraph, so the character cap, time
+ * limit and early stop of BoundedTextHandler apply as they do for Tika.
+ */
+public interface CvTextExtractor {
+
+    // Leading bytes passed to accepts()
+    int HEAD_BYTES = 1024;
+
+    /**
+     * Content type under which parses are recorded in ParserMetrics.
+     */
+    String contentType();
+
+    /**
+     * Cheap check on the file's first bytes (up to HEAD_BYTES) and its name.
+     */
+    boolean accepts(byte[] head, String filename);
+
+    /**
+     * Write the text of the file to the handler.
+     *
+     * @return false, without having written anything, if the file turns out
+     *         not to be in this format after all (Tika is used instead)
+     */
+    boolean extract(Path file, ContentHandler handler) throws IOException, SAXException;
+
+    static boolean startsWith(byte[] head, byte[] magic) {
+        if (head.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
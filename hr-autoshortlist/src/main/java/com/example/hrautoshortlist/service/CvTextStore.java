@@ -0,0 +1,78 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.entity.ParsedCVText;
+import com.example.hrautoshortlist.repository.ParsedCVTextRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Raw CV text storage, deflate-compressed in parsed_cv_texts and keyed by the
+ * ParsedCV ID.
+ */
+@Service
+public class CvTextStore {
+
+    private final ParsedCVTextRepository textRepository;
+
+    public CvTextStore(ParsedCVTextRepository textRepository) {
+        this.textRepository = textRepository;
+    }
+
+    /**
+     * Store (or replace) the text of a parse; null removes any stored text.
+     */
+    @Transactional
+    public void save(Long parsedCvId, String text) {
+        if (text == null) {
+            textRepository.deleteById(parsedCvId);
+            return;
+        }
+        textRepository.save(new ParsedCVText(parsedCvId, text.length(), compress(text)));
+    }
+
+    /**
+     * Give a parse the stored text of another one without recompressing it.
+     */
+    @Transactional
+    public void copy(Long fromParsedCvId, Long toParsedCvId) {
+        Optional<ParsedCVText> source = textRepository.findById(fromParsedCvId);
+        if (source.isPresent()) {
+            textRepository.save(new ParsedCVText(toParsedCvId, source.get().getOriginalLength(),
+                    source.get().getCompressed()));
+        } else {
+            textRepository.deleteById(toParsedCvId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> load(Long parsedCvId) {
+        return textRepository.findById(parsedCvId).map(text -> decompress(text.getCompressed()));
+    }
+
+    static byte[] compress(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, text.length() / 3));
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static String decompress(byte[] compressed) {
+        try (InflaterInputStream inflate = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(inflate.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed CV text", e);
+        }
+    }
+}
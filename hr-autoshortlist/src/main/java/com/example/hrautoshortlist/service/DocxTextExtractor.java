@@ -0,0 +1,140 @@
+package com.example.hrautoshortlist.service;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * DOCX fast path: streams word/document.xml out of the zip with StAX and emits
+ * the run text, instead of building POI's object model of the whole package.
+ *
+ * Reads the document body only. Headers, footers, footnotes and comments,
+ * which Tika also emits, are not read; CV content lives in the body. Deleted
+ * revisions and field codes are skipped, as in Tika.
+ */
+@Component
+@Order(1)
+public class DocxTextExtractor implements CvTextExtractor {
+
+    static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private static final byte[] ZIP_MAGIC = { 'P', 'K', 3, 4 };
+    private static final String BODY_PART = "word/document.xml";
+
+    // Transitional and strict WordprocessingML
+    private static final String W_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String W_STRICT_NS = "http://purl.oclc.org/ooxml/wordprocessingml/main";
+
+    private static final char[] TAB = { '\t' };
+    private static final char[] NEWLINE = { '\n' };
+
+    // Factories are not guaranteed to be thread-safe; parse threads are pooled, so one each is cheap
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT = ThreadLocal.withInitial(() -> {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    });
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public boolean accepts(byte[] head, String filename) {
+        // Any zip; extract() declines the ones without a Word body (xlsx, pptx, plain archives)
+        return CvTextExtractor.startsWith(head, ZIP_MAGIC);
+    }
+
+    @Override
+    public boolean extract(Path file, ContentHandler handler) throws IOException, SAXException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry body = zip.getEntry(BODY_PART);
+            if (body == null) {
+                return false;
+            }
+            try (InputStream in = zip.getInputStream(body)) {
+                handler.startDocument();
+                writeBody(in, handler);
+                handler.endDocument();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed " + BODY_PART + ": " + e.getMessage(), e);
+        }
+        return true;
+    }
+
+    private static void writeBody(InputStream in, ContentHandler handler) throws XMLStreamException, SAXException {
+        XMLStreamReader reader = XML_INPUT.get().createXMLStreamReader(in);
+        try {
+            // Nesting depth of w:r (runs can nest through text boxes); w:tab outside a run is a tab stop
+            int runDepth = 0;
+            boolean inText = false;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        if (!isWord(reader)) {
+                            continue;
+                        }
+                        switch (reader.getLocalName()) {
+                            case "r" -> runDepth++;
+                            case "t" -> inText = runDepth > 0;
+                            case "tab" -> {
+                                if (runDepth > 0) {
+                                    handler.characters(TAB, 0, 1);
+                                }
+                            }
+                            case "br", "cr" -> {
+                                if (runDepth > 0) {
+                                    handler.characters(NEWLINE, 0, 1);
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA,
+                            XMLStreamConstants.SPACE -> {
+                        if (inText) {
+                            handler.characters(reader.getTextCharacters(), reader.getTextStart(),
+                                    reader.getTextLength());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (!isWord(reader)) {
+                            continue;
+                        }
+                        switch (reader.getLocalName()) {
+                            case "r" -> runDepth--;
+                            case "t" -> inText = false;
+                            case "p" -> handler.characters(NEWLINE, 0, 1);
+                            default -> {
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isWord(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return W_NS.equals(namespace) || W_STRICT_NS.equals(namespace);
+    }
+}
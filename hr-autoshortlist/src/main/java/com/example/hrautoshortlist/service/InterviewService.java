@@ -10,12 +10,18 @@ import com.example.hrautoshortlist.repository.JobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class InterviewService {
 
+    // Emails whose outcome is stored together; at most this many stay PENDING if the process dies mid-send
+    private static final int STATUS_CHUNK_SIZE = 50;
+
     @Autowired
     private CandidateUserRepository candidateUserRepository;
 
@@ -37,41 +43,42 @@ public class InterviewService {
             throw new RuntimeException("Job not found");
         }
 
+        // One query for all candidates, and one batched insert of all invitations as PENDING
+        // before any email goes out, so every email sent has a row even if a later write fails
+        Map<Long, CandidateUser> candidates = new HashMap<>();
+        candidateUserRepository.findAllById(request.getCandidateIds())
+                .forEach(candidate -> candidates.put(candidate.getId(), candidate));
+
+        List<InterviewInvitation> invitations = new ArrayList<>();
         for (Long candidateId : request.getCandidateIds()) {
-            CandidateUser candidate = candidateUserRepository.findById(candidateId).orElse(null);
+            CandidateUser candidate = candidates.get(candidateId);
             if (candidate == null) {
                 failedCount++;
                 continue;
             }
+            invitations.add(newInvitation(candidate, job, request, "PENDING"));
+        }
+        invitations = invitationRepository.saveAll(invitations);
 
+        // Outcomes are stored a chunk at a time, one UPDATE per status
+        List<Long> sent = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (InterviewInvitation invitation : invitations) {
+            CandidateUser candidate = invitation.getCandidateUser();
             try {
                 String emailBody = generateEmailBody(candidate, job, request);
                 emailService.sendEmail(candidate.getEmail(), "Interview Invitation - " + job.getTitle(), emailBody);
-
-                InterviewInvitation invitation = new InterviewInvitation();
-                invitation.setCandidateUser(candidate);
-                invitation.setJob(job);
-                invitation.setInterviewDate(request.getInterviewDate());
-                invitation.setInterviewTime(request.getInterviewTime());
-                invitation.setInterviewMode(request.getInterviewMode());
-                invitation.setInterviewLocation(request.getInterviewLocation());
-                invitation.setStatus("SENT");
-                invitationRepository.save(invitation);
-
+                sent.add(invitation.getId());
                 sentCount++;
             } catch (Exception e) {
+                failed.add(invitation.getId());
                 failedCount++;
-                InterviewInvitation invitation = new InterviewInvitation();
-                invitation.setCandidateUser(candidate);
-                invitation.setJob(job);
-                invitation.setInterviewDate(request.getInterviewDate());
-                invitation.setInterviewTime(request.getInterviewTime());
-                invitation.setInterviewMode(request.getInterviewMode());
-                invitation.setInterviewLocation(request.getInterviewLocation());
-                invitation.setStatus("FAILED");
-                invitationRepository.save(invitation);
+            }
+            if (sent.size() + failed.size() >= STATUS_CHUNK_SIZE) {
+                storeOutcomes(sent, failed);
             }
         }
+        storeOutcomes(sent, failed);
 
         Map<String, Integer> result = new HashMap<>();
         result.put("sent", sentCount);
@@ -79,6 +86,31 @@ public class InterviewService {
         return result;
     }
 
+    private void storeOutcomes(List<Long> sent, List<Long> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sent.isEmpty()) {
+            invitationRepository.updateStatus(sent, "SENT", now);
+            sent.clear();
+        }
+        if (!failed.isEmpty()) {
+            invitationRepository.updateStatus(failed, "FAILED", now);
+            failed.clear();
+        }
+    }
+
+    private InterviewInvitation newInvitation(CandidateUser candidate, Job job, InterviewRequestDTO request,
+            String status) {
+        InterviewInvitation invitation = new InterviewInvitation();
+        invitation.setCandidateUser(candidate);
+        invitation.setJob(job);
+        invitation.setInterviewDate(request.getInterviewDate());
+        invitation.setInterviewTime(request.getInterviewTime());
+        invitation.setInterviewMode(request.getInterviewMode());
+        invitation.setInterviewLocation(request.getInterviewLocation());
+        invitation.setStatus(status);
+        return invitation;
+    }
+
     private String generateEmailBody(CandidateUser candidate, Job job, InterviewRequestDTO request) {
         String template = "Dear {{candidateName}},<br><br>" +
                 "We are pleased to invite you for an interview for the position of <strong>{{jobTitle}}</strong> at <strong>{{companyName}}</strong>.<br><br>"
@@ -1,17 +1,29 @@
 package com.example.hrautoshortlist.service;
 
 import com.example.hrautoshortlist.dto.JobDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
 import com.example.hrautoshortlist.entity.Job;
 import com.example.hrautoshortlist.repository.ApplicationRepository;
+import com.example.hrautoshortlist.repository.ApplicationRepository.JobApplicantCount;
+import com.example.hrautoshortlist.repository.JobListingRepository;
 import com.example.hrautoshortlist.repository.JobRepository;
+import com.example.hrautoshortlist.repository.JobRepository.JobTypeStatistics;
+import com.example.hrautoshortlist.repository.ListingCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class JobService {
@@ -24,10 +36,49 @@ public class JobService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    // Read applicant counts from jobs.applicant_count instead of counting applications
+    @Value("${shortlist.jobs.applicant-count-column.enabled:true}")
+    private boolean applicantCountColumnEnabled = true;
+
+    @Value("${shortlist.listing.default-page-size:100}")
+    private int defaultPageSize = 100;
+
+    @Value("${shortlist.listing.max-page-size:500}")
+    private int maxPageSize = 500;
+
     public List<Job> getAllJobs() {
         return jobRepository.findAll();
     }
 
+    /**
+     * Dashboard figures from two aggregate queries, without loading any jobs
+     * or applications.
+     */
+    public Map<String, Object> getStatistics() {
+        long totalJobs = 0;
+        long activeJobs = 0;
+        long totalViews = 0;
+        Map<String, Long> jobTypeBreakdown = new HashMap<>();
+        for (JobTypeStatistics row : jobRepository.statisticsByTypeAndStatus()) {
+            totalJobs += row.getJobs();
+            if (Boolean.TRUE.equals(row.getActive())) {
+                activeJobs += row.getJobs();
+            }
+            totalViews += row.getViews();
+            String type = row.getJobType() != null ? row.getJobType().name() : "PERMANENT";
+            jobTypeBreakdown.merge(type, row.getJobs(), Long::sum);
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalJobs", totalJobs);
+        stats.put("activeJobs", activeJobs);
+        stats.put("inactiveJobs", totalJobs - activeJobs);
+        stats.put("totalViews", totalViews);
+        stats.put("jobTypeBreakdown", jobTypeBreakdown);
+        stats.put("totalApplications", applicationRepository.count());
+        return stats;
+    }
+
     public Optional<Job> getJobById(Long id) {
         return jobRepository.findById(id);
     }
@@ -49,12 +100,56 @@ public class JobService {
         jobRepository.deleteById(id);
     }
 
+    /**
+     * Recount the stored applicant counts once at startup, which fills them in
+     * for jobs created before the column existed and corrects any drift from
+     * nodes that did not maintain it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileApplicantCounts() {
+        if (!applicantCountColumnEnabled) {
+            return;
+        }
+        try {
+            int corrected = jobRepository.reconcileApplicantCounts();
+            if (corrected > 0) {
+                logger.info("Corrected the stored applicant count of {} jobs", corrected);
+            }
+        } catch (Exception e) {
+            logger.error("Could not reconcile stored applicant counts", e);
+        }
+    }
+
     public List<JobDTO> listActiveJobs() {
-        List<Job> jobs = jobRepository.findByActiveTrue();
+        return convertToDTOs(jobRepository.findActiveWithSkills());
+    }
 
-        return jobs.stream()
-                .map(this::convertToDTO)
-                .toList();
+    /**
+     * One page of jobs matching the filter, oldest first (sort "id", the
+     * default) or newest first (sort "newest").
+     *
+     * @param limit page size, or null for the configured default
+     * @throws IllegalArgumentException for an unknown sort, a bad limit, or a
+     *                                  cursor that is malformed or from another sort
+     */
+    public ListingPage<JobDTO> listJobs(JobListingRepository.Filter filter, String sort, String cursor,
+            Integer limit) {
+        String order = sort == null || sort.isBlank() ? "id" : sort.trim().toLowerCase(Locale.ROOT);
+        if (!order.equals("id") && !order.equals("newest")) {
+            throw new IllegalArgumentException("Unknown sort '" + sort + "', expected one of id, newest");
+        }
+        ListingCursor after = ListingCursor.decode(cursor, order);
+        int pageSize = ListingPage.pageSize(limit, defaultPageSize, maxPageSize);
+
+        // One job more than the page to know whether there is a next page
+        List<Job> jobs = jobRepository.findListingPage(filter, order.equals("newest"),
+                after != null ? after.id() : null, pageSize + 1);
+        if (jobs.size() <= pageSize) {
+            return new ListingPage<>(convertToDTOs(jobs), null);
+        }
+        List<Job> page = jobs.subList(0, pageSize);
+        String next = new ListingCursor(order, null, page.get(pageSize - 1).getId()).encode();
+        return new ListingPage<>(convertToDTOs(page), next);
     }
 
     @Transactional
@@ -65,8 +160,30 @@ public class JobService {
 
     // Convert Job to JobDTO with applicant count
     public JobDTO convertToDTO(Job job) {
-        int applicantCount = applicationRepository.findByJob_Id(job.getId()).size();
+        int applicantCount = applicantCountColumnEnabled
+                ? job.getApplicantCount()
+                : (int) applicationRepository.countByJob_Id(job.getId());
+        return convertToDTO(job, applicantCount);
+    }
+
+    // Listings take their applicant counts from the jobs rows, or from one
+    // grouped query for all listed jobs
+    private List<JobDTO> convertToDTOs(List<Job> jobs) {
+        if (applicantCountColumnEnabled || jobs.isEmpty()) {
+            return jobs.stream()
+                    .map(job -> convertToDTO(job, job.getApplicantCount()))
+                    .toList();
+        }
+        Map<Long, Long> counts = applicationRepository
+                .countByJobIds(jobs.stream().map(Job::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(JobApplicantCount::getJobId, JobApplicantCount::getApplicants));
+        return jobs.stream()
+                .map(job -> convertToDTO(job, counts.getOrDefault(job.getId(), 0L).intValue()))
+                .toList();
+    }
 
+    private JobDTO convertToDTO(Job job, int applicantCount) {
         JobDTO dto = new JobDTO(
                 job.getId(),
                 job.getTitle(),
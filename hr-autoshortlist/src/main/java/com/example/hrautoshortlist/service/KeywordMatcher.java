@@ -0,0 +1,211 @@
+package com.example.hrautoshortlist.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton that finds every occurrence of a fixed keyword set in
+ * one pass over the text, so the scan cost does not grow with the dictionary.
+ *
+ * Matching is case-insensitive and word-boundary aware in the sense of regex
+ * {@code \b}: a keyword that starts (ends) with a letter or digit only matches
+ * when the preceding (following) character is not one. "r" and "go" therefore
+ * no longer match inside other words, while ".net" still matches in "asp.net".
+ *
+ * Instances are immutable and safe to share between threads.
+ */
+public final class KeywordMatcher {
+
+    // Keywords in their original spelling, indexed by pattern number
+    private final String[] keywords;
+    private final int[] lengths;
+    private final boolean[] wordStart;
+    private final boolean[] wordEnd;
+
+    // Goto function: sorted edge labels and their target node, per node
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+
+    // Patterns ending at each node, including those reached through failure links
+    private final int[][] outputs;
+
+    private KeywordMatcher(List<String> keywords) {
+        int count = keywords.size();
+        this.keywords = keywords.toArray(new String[0]);
+        this.lengths = new int[count];
+        this.wordStart = new boolean[count];
+        this.wordEnd = new boolean[count];
+
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+
+        // 1. Trie of the lowercased keywords
+        for (int p = 0; p < count; p++) {
+            String keyword = this.keywords[p];
+            lengths[p] = keyword.length();
+            wordStart[p] = isWordChar(keyword.charAt(0));
+            wordEnd[p] = isWordChar(keyword.charAt(keyword.length() - 1));
+
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                Integer next = edges.get(node).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                    edges.get(node).put(c, next);
+                }
+                node = next;
+            }
+            ends.get(node).add(p);
+        }
+
+        int nodes = edges.size();
+        this.edgeChars = new char[nodes][];
+        this.edgeTargets = new int[nodes][];
+        for (int n = 0; n < nodes; n++) {
+            TreeMap<Character, Integer> out = edges.get(n);
+            edgeChars[n] = new char[out.size()];
+            edgeTargets[n] = new int[out.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : out.entrySet()) {
+                edgeChars[n][i] = edge.getKey();
+                edgeTargets[n][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 2. Failure links and merged outputs, breadth first so parents are done first
+        this.fail = new int[nodes];
+        this.outputs = new int[nodes][];
+        outputs[0] = toArray(ends.get(0));
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int[] inherited = outputs[fail[node]];
+            int[] own = toArray(ends.get(node));
+            int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+            System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+            outputs[node] = merged;
+
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int state = fail[node];
+                while (state != 0 && next(state, c) < 0) {
+                    state = fail[state];
+                }
+                int target = next(state, c);
+                fail[child] = target >= 0 ? target : 0;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Build a matcher for the given keywords. Blank entries are ignored and
+     * duplicates (case-insensitively) keep their first spelling.
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isBlank()) {
+                unique.putIfAbsent(keyword.trim().toLowerCase(), keyword.trim());
+            }
+        }
+        return new KeywordMatcher(new ArrayList<>(unique.values()));
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    /**
+     * Keywords occurring in the text, each once, in the order they were given
+     * to {@link #of}.
+     */
+    public List<String> findAll(CharSequence text) {
+        boolean[] found = new boolean[keywords.length];
+        collect(text, found);
+        return keywordsOf(found);
+    }
+
+    /**
+     * Mark the keywords occurring in the text in {@code found} (indexed like the
+     * keyword list), so hits can be accumulated over several pieces of text.
+     *
+     * @return number of keywords newly marked
+     */
+    public int collect(CharSequence text, boolean[] found) {
+        int newlyFound = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int target;
+            while ((target = next(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(target, 0);
+
+            for (int p : outputs[state]) {
+                if (!found[p] && atBoundary(text, p, i)) {
+                    found[p] = true;
+                    newlyFound++;
+                }
+            }
+        }
+        return newlyFound;
+    }
+
+    /**
+     * Keywords marked in {@code found}, in dictionary order.
+     */
+    public List<String> keywordsOf(boolean[] found) {
+        List<String> matches = new ArrayList<>();
+        for (int p = 0; p < keywords.length; p++) {
+            if (found[p]) {
+                matches.add(keywords[p]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Whether pattern p, ending at index end, is delimited like a whole word.
+     */
+    private boolean atBoundary(CharSequence text, int p, int end) {
+        int start = end - lengths[p] + 1;
+        if (wordStart[p] && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !wordEnd[p] || end + 1 >= text.length() || !isWordChar(text.charAt(end + 1));
+    }
+
+    private int next(int node, char c) {
+        int i = Arrays.binarySearch(edgeChars[node], c);
+        return i >= 0 ? edgeTargets[node][i] : -1;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
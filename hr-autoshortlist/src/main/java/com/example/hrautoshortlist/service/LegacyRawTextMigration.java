@@ -0,0 +1,79 @@
+package com.example.hrautoshortlist.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Moves raw CV text still held in the old parsed_cvs.raw_text column into
+ * compressed parsed_cv_texts rows, a batch per transaction, and clears the
+ * column. The column is left in place (empty) so nodes on an older version
+ * keep working during a rolling deploy.
+ */
+@Component
+public class LegacyRawTextMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyRawTextMigration.class);
+
+    private static final int BATCH_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CvTextStore cvTextStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService ioExecutor;
+
+    public LegacyRawTextMigration(JdbcTemplate jdbcTemplate, CvTextStore cvTextStore,
+            TransactionTemplate transactionTemplate, @Qualifier("cvIoExecutor") ExecutorService ioExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cvTextStore = cvTextStore;
+        this.transactionTemplate = transactionTemplate;
+        this.ioExecutor = ioExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        Integer columns = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns "
+                + "WHERE table_name = 'parsed_cvs' AND column_name = 'raw_text'", Integer.class);
+        if (columns == null || columns == 0) {
+            return;
+        }
+        ioExecutor.execute(this::migrateAll);
+    }
+
+    private void migrateAll() {
+        long moved = 0;
+        try {
+            int batch;
+            do {
+                batch = transactionTemplate.execute(status -> migrateBatch());
+                moved += batch;
+            } while (batch == BATCH_SIZE);
+        } catch (Exception e) {
+            logger.error("Moving raw CV text out of parsed_cvs stopped after {} rows", moved, e);
+            return;
+        }
+        if (moved > 0) {
+            logger.info("Moved the raw text of {} parsed CVs to parsed_cv_texts", moved);
+        }
+    }
+
+    private int migrateBatch() {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, raw_text FROM parsed_cvs WHERE raw_text IS NOT NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getString(2) }, BATCH_SIZE);
+        for (Object[] row : rows) {
+            Long parsedCvId = (Long) row[0];
+            cvTextStore.save(parsedCvId, (String) row[1]);
+            jdbcTemplate.update("UPDATE parsed_cvs SET raw_text = NULL WHERE id = ?", parsedCvId);
+        }
+        return rows.size();
+    }
+}
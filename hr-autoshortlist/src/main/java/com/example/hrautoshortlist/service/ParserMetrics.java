@@ -0,0 +1,75 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.dto.ParserMetricsReport;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory counters for CV text extraction: parser initialization time and
+ * per-content-type parse latency. Warm-up parses are not counted.
+ */
+@Component
+public class ParserMetrics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private volatile long initNanos;
+    private volatile boolean warmedUp;
+    private final Map<String, TypeStats> byType = new ConcurrentHashMap<>();
+
+    public synchronized void recordInit(long nanos) {
+        this.initNanos += nanos;
+    }
+
+    public void markWarmedUp() {
+        this.warmedUp = true;
+    }
+
+    public void recordParse(String contentType, long nanos, boolean success) {
+        String type = contentType != null ? baseType(contentType) : "unknown";
+        byType.computeIfAbsent(type, t -> new TypeStats()).record(nanos, success);
+    }
+
+    // "application/pdf; version=1.4" -> "application/pdf"
+    private static String baseType(String contentType) {
+        int params = contentType.indexOf(';');
+        return (params >= 0 ? contentType.substring(0, params) : contentType).trim();
+    }
+
+    public ParserMetricsReport snapshot() {
+        List<ParserMetricsReport.TypeStats> types = byType.entrySet().stream()
+                .map(e -> e.getValue().toReport(e.getKey()))
+                .sorted(Comparator.comparingLong(ParserMetricsReport.TypeStats::getCount).reversed())
+                .collect(Collectors.toList());
+        return new ParserMetricsReport(initNanos / NANOS_PER_MILLI, warmedUp, types);
+    }
+
+    private static class TypeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos, boolean success) {
+            count.increment();
+            if (!success) {
+                failures.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        ParserMetricsReport.TypeStats toReport(String type) {
+            long n = count.sum();
+            double avg = n > 0 ? totalNanos.sum() / (double) n / NANOS_PER_MILLI : 0.0;
+            return new ParserMetricsReport.TypeStats(type, n, failures.sum(), avg, maxNanos.get() / NANOS_PER_MILLI);
+        }
+    }
+}
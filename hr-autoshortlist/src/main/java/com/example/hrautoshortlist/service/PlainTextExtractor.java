@@ -0,0 +1,91 @@
+package com.example.hrautoshortlist.service;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Plain-text fast path: decodes .txt files directly instead of running Tika's
+ * detector chain and charset detection. Plain text has no magic bytes, so the
+ * file must be named .txt and its first bytes must not look binary.
+ *
+ * A byte order mark decides the charset; otherwise the text is read as UTF-8
+ * if it is valid UTF-8 and as windows-1252 if not.
+ */
+@Component
+@Order(2)
+public class PlainTextExtractor implements CvTextExtractor {
+
+    static final String CONTENT_TYPE = "text/plain";
+
+    private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+    private static final byte[] UTF16BE_BOM = { (byte) 0xFE, (byte) 0xFF };
+    private static final byte[] UTF16LE_BOM = { (byte) 0xFF, (byte) 0xFE };
+
+    // Handed to the handler in slices, so the character cap can stop a huge file early
+    private static final int CHUNK = 8192;
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public boolean accepts(byte[] head, String filename) {
+        if (!filename.toLowerCase(Locale.ROOT).endsWith(".txt")) {
+            return false;
+        }
+        if (CvTextExtractor.startsWith(head, UTF16BE_BOM) || CvTextExtractor.startsWith(head, UTF16LE_BOM)) {
+            return true;
+        }
+        for (byte b : head) {
+            if (b == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean extract(Path file, ContentHandler handler) throws IOException, SAXException {
+        char[] text = decode(Files.readAllBytes(file)).toCharArray();
+        handler.startDocument();
+        for (int start = 0; start < text.length; start += CHUNK) {
+            handler.characters(text, start, Math.min(CHUNK, text.length - start));
+        }
+        handler.endDocument();
+        return true;
+    }
+
+    static String decode(byte[] bytes) {
+        if (CvTextExtractor.startsWith(bytes, UTF8_BOM)) {
+            return new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        }
+        if (CvTextExtractor.startsWith(bytes, UTF16BE_BOM)) {
+            return new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16BE);
+        }
+        if (CvTextExtractor.startsWith(bytes, UTF16LE_BOM)) {
+            return new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16LE);
+        }
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return new String(bytes, Charset.forName("windows-1252"));
+        }
+    }
+}
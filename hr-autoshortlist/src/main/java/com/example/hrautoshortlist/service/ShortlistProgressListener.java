@@ -0,0 +1,31 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.dto.ShortlistResult;
+
+/**
+ * Callbacks from a shortlist run. Called from worker threads, so implementations
+ * must be thread-safe.
+ */
+public interface ShortlistProgressListener {
+
+    ShortlistProgressListener NONE = new ShortlistProgressListener() {
+    };
+
+    /**
+     * Applications have been loaded and scoring is about to start.
+     */
+    default void onStarted(int totalApplications) {
+    }
+
+    /**
+     * An application's CV parse is up to date (re-parsed or served from cache).
+     */
+    default void onParsed(Long applicationId) {
+    }
+
+    /**
+     * An application has been scored.
+     */
+    default void onScored(ShortlistResult result) {
+    }
+}
@@ -0,0 +1,591 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.dto.ShortlistBatchStatus;
+import com.example.hrautoshortlist.dto.ShortlistReport;
+import com.example.hrautoshortlist.dto.ShortlistResult;
+import com.example.hrautoshortlist.dto.ShortlistRunStatus;
+import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.entity.ShortlistBatch;
+import com.example.hrautoshortlist.entity.ShortlistRun;
+import com.example.hrautoshortlist.repository.JobRepository;
+import com.example.hrautoshortlist.repository.ShortlistBatchRepository;
+import com.example.hrautoshortlist.repository.ShortlistRunRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Runs shortlists in the background. Callers get a run ID straight away, can poll
+ * progress, and can subscribe to Server-Sent Events carrying the converging
+ * ranking. The final report is stored on the ShortlistRun row.
+ * Batches shortlist several jobs one after another, one run per job.
+ *
+ * The node executing a run writes its progress to the row every few seconds,
+ * renewing its lease; other nodes report that stored progress. A run whose
+ * lease runs out (node crash or restart) is marked FAILED by the next check on
+ * any node. Batches hold a lease the same way: a batch whose node stopped is
+ * closed with errors and its jobs that never started are failed.
+ */
+@Service
+public class ShortlistRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShortlistRunService.class);
+
+    private static final long SSE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
+    // Minimum gap between two progress events of the same run
+    private static final long EMIT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final ApplicationShortlistService shortlistService;
+    private final ShortlistRunRepository runRepository;
+    private final ShortlistBatchRepository batchRepository;
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService ioExecutor;
+    private final String workerId;
+
+    @Value("${shortlist.runs.lease-timeout-seconds:60}")
+    private long leaseTimeoutSeconds = 60;
+
+    // Runs executing on this node
+    private final Map<Long, LiveRun> liveRuns = new ConcurrentHashMap<>();
+
+    // Batches this node is working through
+    private final Set<Long> liveBatches = ConcurrentHashMap.newKeySet();
+
+    // Subscribers on this node to runs executing elsewhere, fed from the stored progress
+    private final Map<Long, List<SseEmitter>> remoteSubscribers = new ConcurrentHashMap<>();
+
+    public ShortlistRunService(ApplicationShortlistService shortlistService,
+            ShortlistRunRepository runRepository,
+            ShortlistBatchRepository batchRepository,
+            JobRepository jobRepository,
+            ObjectMapper objectMapper,
+            WorkerIdentity workerIdentity,
+            @Qualifier("cvIoExecutor") ExecutorService ioExecutor) {
+        this.shortlistService = shortlistService;
+        this.runRepository = runRepository;
+        this.batchRepository = batchRepository;
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.ioExecutor = ioExecutor;
+        this.workerId = workerIdentity.id();
+    }
+
+    /**
+     * Record a new run and start it in the background.
+     */
+    public ShortlistRun startRun(Long jobId, int topN) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new IllegalArgumentException("Job not found: " + jobId);
+        }
+
+        ShortlistRun run = new ShortlistRun(jobId, topN);
+        run.setLockedBy(workerId);
+        run.setHeartbeatAt(LocalDateTime.now());
+        runRepository.save(run);
+        LiveRun live = new LiveRun(run);
+        liveRuns.put(run.getId(), live);
+        logger.info("Started async shortlist run {} for job {}, top {}", run.getId(), jobId, topN);
+
+        ioExecutor.execute(() -> execute(run, live));
+        return run;
+    }
+
+    /**
+     * Record a batch covering the given jobs (all active jobs if none are given)
+     * and shortlist them one after another in the background. Compiled criteria
+     * and stored CV parses are shared across the jobs; shortlist flags are
+     * committed as each job finishes.
+     */
+    public ShortlistBatch startBatch(List<Long> jobIds, int topN) {
+        List<Long> ids = jobIds == null || jobIds.isEmpty()
+                ? jobRepository.findByActiveTrue().stream().map(Job::getId).collect(Collectors.toList())
+                : jobIds.stream().distinct().collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("No jobs to shortlist");
+        }
+        for (Long jobId : ids) {
+            if (!jobRepository.existsById(jobId)) {
+                throw new IllegalArgumentException("Job not found: " + jobId);
+            }
+        }
+
+        ShortlistBatch batch = new ShortlistBatch(topN, ids.size());
+        batch.setLockedBy(workerId);
+        batch.setHeartbeatAt(LocalDateTime.now());
+        batch = batchRepository.save(batch);
+        List<ShortlistRun> runs = new ArrayList<>(ids.size());
+        for (Long jobId : ids) {
+            ShortlistRun run = new ShortlistRun(jobId, topN);
+            run.setBatchId(batch.getId());
+            run.setStatus("QUEUED");
+            runs.add(run);
+        }
+        runs = runRepository.saveAll(runs);
+        logger.info("Started shortlist batch {} for {} jobs, top {}", batch.getId(), ids.size(), topN);
+
+        ShortlistBatch started = batch;
+        List<ShortlistRun> queued = runs;
+        liveBatches.add(started.getId());
+        ioExecutor.execute(() -> executeBatch(started, queued));
+        return started;
+    }
+
+    private void executeBatch(ShortlistBatch batch, List<ShortlistRun> runs) {
+        int failed = 0;
+        boolean closedElsewhere = false;
+        try {
+            for (ShortlistRun run : runs) {
+                // Renewing the lease also tells us whether the batch was given up on meanwhile
+                if (batchRepository.heartbeat(batch.getId(), workerId, LocalDateTime.now()) == 0) {
+                    closedElsewhere = true;
+                    logger.warn("Shortlist batch {} was closed as abandoned, not starting its remaining jobs",
+                            batch.getId());
+                    break;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                if (runRepository.startQueued(run.getId(), workerId, now) == 0) {
+                    logger.warn("Shortlist run {} of batch {} is no longer queued, skipping it", run.getId(),
+                            batch.getId());
+                    failed++;
+                    continue;
+                }
+                run.setStatus("RUNNING");
+                run.setStartedAt(now);
+                run.setLockedBy(workerId);
+                run.setHeartbeatAt(now);
+
+                LiveRun live = new LiveRun(run);
+                liveRuns.put(run.getId(), live);
+                execute(run, live);
+                if ("FAILED".equals(run.getStatus())) {
+                    failed++;
+                }
+            }
+        } finally {
+            liveBatches.remove(batch.getId());
+            if (!closedElsewhere) {
+                String status = failed > 0 ? "COMPLETED_WITH_ERRORS" : "COMPLETED";
+                if (batchRepository.finish(batch.getId(), workerId, status, LocalDateTime.now()) == 0) {
+                    logger.warn("Lost the lease of shortlist batch {} before it finished; keeping its stored status",
+                            batch.getId());
+                } else {
+                    logger.info("Shortlist batch {} finished, {} of {} jobs failed", batch.getId(), failed,
+                            runs.size());
+                }
+            }
+        }
+    }
+
+    private void execute(ShortlistRun run, LiveRun live) {
+        try {
+            ShortlistReport report = shortlistService.runShortlist(run.getJobId(), run.getTopN(), live);
+            run.setReportJson(objectMapper.writeValueAsString(report));
+            run.setStatus("COMPLETED");
+        } catch (Exception e) {
+            logger.error("Async shortlist run {} failed", run.getId(), e);
+            run.setStatus("FAILED");
+            run.setError(e.getMessage());
+        }
+
+        run.setTotalApplications(live.total);
+        run.setParsedCount(live.parsed.get());
+        run.setScoredCount(live.scored.get());
+        run.setCompletedAt(LocalDateTime.now());
+        run.setHeartbeatAt(run.getCompletedAt());
+
+        try {
+            // Only while this node still holds the lease; otherwise the stored outcome stands
+            if (runRepository.finish(run.getId(), workerId, run.getStatus(), run.getError(), run.getReportJson(),
+                    run.getTotalApplications(), run.getParsedCount(), run.getScoredCount(),
+                    run.getCompletedAt()) == 0) {
+                logger.warn("Lost the lease of shortlist run {} before it finished; keeping its stored outcome",
+                        run.getId());
+                runRepository.findById(run.getId()).ifPresent(stored -> {
+                    run.setStatus(stored.getStatus());
+                    run.setError(stored.getError());
+                    run.setReportJson(stored.getReportJson());
+                });
+            } else {
+                run.setLockedBy(null);
+            }
+            live.finish(toStatus(run));
+        } catch (Exception e) {
+            logger.error("Could not store result of shortlist run {}", run.getId(), e);
+            live.finish(toStatus(run));
+        } finally {
+            liveRuns.remove(run.getId());
+        }
+        logger.info("Async shortlist run {} finished with status {}", run.getId(), run.getStatus());
+    }
+
+    /**
+     * Store the progress of the runs executing on this node, which also renews
+     * their leases and those of this node's batches, and relay stored progress
+     * to subscribers of runs executing on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${shortlist.runs.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        for (LiveRun live : liveRuns.values()) {
+            try {
+                runRepository.heartbeat(live.runId, workerId, live.total, live.parsed.get(), live.scored.get(), now);
+            } catch (Exception e) {
+                logger.warn("Could not store progress of shortlist run {}: {}", live.runId, e.getMessage());
+            }
+        }
+        for (Long batchId : liveBatches) {
+            try {
+                batchRepository.heartbeat(batchId, workerId, now);
+            } catch (Exception e) {
+                logger.warn("Could not renew lease of shortlist batch {}: {}", batchId, e.getMessage());
+            }
+        }
+        for (Long runId : remoteSubscribers.keySet()) {
+            try {
+                relayStoredProgress(runId);
+            } catch (Exception e) {
+                logger.warn("Could not relay progress of shortlist run {}: {}", runId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Mark runs whose node stopped sending heartbeats as FAILED, including this
+     * node's own runs after a restart. Batches whose node stopped are closed
+     * with errors, and their runs that never started are failed with them.
+     */
+    @Scheduled(fixedDelayString = "${shortlist.runs.abandoned-check-interval-ms:30000}")
+    public void failAbandonedRuns() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime cutoff = now.minusSeconds(leaseTimeoutSeconds);
+            int failed = runRepository.failAbandoned(cutoff,
+                    "Interrupted: the node running this shortlist stopped", now);
+            if (failed > 0) {
+                logger.warn("Marked {} abandoned shortlist runs as FAILED", failed);
+            }
+
+            int closed = batchRepository.closeAbandoned(cutoff, now);
+            if (closed > 0) {
+                logger.warn("Closed {} abandoned shortlist batches", closed);
+            }
+            // Also picks up runs left over when an earlier check stopped between the two updates
+            int notStarted = runRepository.failQueuedInClosedBatches(
+                    "Not started: the node running this batch stopped", now);
+            if (notStarted > 0) {
+                logger.warn("Marked {} queued shortlist runs of closed batches as FAILED", notStarted);
+            }
+        } catch (Exception e) {
+            logger.error("Could not check for abandoned shortlist runs", e);
+        }
+    }
+
+    /**
+     * Current progress of a run, or its stored result once finished.
+     */
+    public ShortlistRunStatus getStatus(Long runId) {
+        LiveRun live = liveRuns.get(runId);
+        if (live != null) {
+            return live.snapshot();
+        }
+
+        ShortlistRun run = runRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("Shortlist run not found: " + runId));
+        return toStatus(run);
+    }
+
+    /**
+     * Subscribe to progress events of a run. Finished runs get their final
+     * status straight away.
+     */
+    public SseEmitter subscribe(Long runId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+
+        LiveRun live = liveRuns.get(runId);
+        if (live != null) {
+            live.addEmitter(emitter);
+            return emitter;
+        }
+
+        ShortlistRunStatus status = getStatus(runId);
+        if (isUnfinished(status)) {
+            // Executing on another node (or queued): relay its stored progress until it finishes
+            remoteSubscribers.computeIfAbsent(runId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+            emitter.onCompletion(() -> removeRemoteSubscriber(runId, emitter));
+            emitter.onTimeout(() -> removeRemoteSubscriber(runId, emitter));
+            if (!sendProgress(emitter, status)) {
+                removeRemoteSubscriber(runId, emitter);
+            }
+            return emitter;
+        }
+
+        sendFinal(emitter, status);
+        return emitter;
+    }
+
+    private void relayStoredProgress(Long runId) {
+        List<SseEmitter> emitters = remoteSubscribers.get(runId);
+        if (emitters == null) {
+            return;
+        }
+        ShortlistRunStatus status = runRepository.findById(runId).map(this::toStatus).orElse(null);
+        if (status != null && isUnfinished(status)) {
+            for (SseEmitter emitter : emitters) {
+                if (!sendProgress(emitter, status)) {
+                    removeRemoteSubscriber(runId, emitter);
+                }
+            }
+            return;
+        }
+
+        remoteSubscribers.remove(runId);
+        for (SseEmitter emitter : emitters) {
+            if (status != null) {
+                sendFinal(emitter, status);
+            } else {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void removeRemoteSubscriber(Long runId, SseEmitter emitter) {
+        remoteSubscribers.computeIfPresent(runId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private static boolean isUnfinished(ShortlistRunStatus status) {
+        return "RUNNING".equals(status.getStatus()) || "QUEUED".equals(status.getStatus());
+    }
+
+    /**
+     * Consolidated progress of a batch across all of its jobs.
+     */
+    public ShortlistBatchStatus getBatchStatus(Long batchId) {
+        ShortlistBatch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new IllegalArgumentException("Shortlist batch not found: " + batchId));
+
+        ShortlistBatchStatus status = new ShortlistBatchStatus();
+        status.setBatchId(batch.getId());
+        status.setTopN(batch.getTopN());
+        status.setStatus(batch.getStatus());
+        status.setTotalJobs(batch.getTotalJobs());
+        status.setStartedAt(batch.getStartedAt());
+        status.setCompletedAt(batch.getCompletedAt());
+
+        for (ShortlistRun run : runRepository.findByBatchIdOrderByIdAsc(batchId)) {
+            LiveRun live = liveRuns.get(run.getId());
+            ShortlistRunStatus job = live != null ? live.snapshot() : toStatus(run);
+
+            status.setTotalApplications(status.getTotalApplications() + job.getTotal());
+            status.setParsedApplications(status.getParsedApplications() + job.getParsed());
+            status.setScoredApplications(status.getScoredApplications() + job.getScored());
+            if ("COMPLETED".equals(job.getStatus())) {
+                status.setCompletedJobs(status.getCompletedJobs() + 1);
+            } else if ("FAILED".equals(job.getStatus())) {
+                status.setFailedJobs(status.getFailedJobs() + 1);
+            }
+            if (job.getReport() != null) {
+                status.setParseCacheHits(status.getParseCacheHits() + job.getReport().getParseCacheHits());
+                status.setParseCacheMisses(status.getParseCacheMisses() + job.getReport().getParseCacheMisses());
+                // Keep the consolidated view small; the full report stays available per run
+                job.setReport(null);
+            }
+            status.getJobs().add(job);
+        }
+        return status;
+    }
+
+    private ShortlistRunStatus toStatus(ShortlistRun run) {
+        ShortlistRunStatus status = new ShortlistRunStatus();
+        status.setRunId(run.getId());
+        status.setJobId(run.getJobId());
+        status.setTopN(run.getTopN());
+        status.setStatus(run.getStatus());
+        status.setTotal(run.getTotalApplications() != null ? run.getTotalApplications() : 0);
+        status.setParsed(run.getParsedCount() != null ? run.getParsedCount() : 0);
+        status.setScored(run.getScoredCount() != null ? run.getScoredCount() : 0);
+        status.setStartedAt(run.getStartedAt());
+        status.setCompletedAt(run.getCompletedAt());
+        status.setError(run.getError());
+
+        if (run.getReportJson() != null) {
+            try {
+                ShortlistReport report = objectMapper.readValue(run.getReportJson(), ShortlistReport.class);
+                status.setReport(report);
+                status.setRanking(report.getResults().stream()
+                        .filter(ShortlistResult::isShortlisted)
+                        .collect(Collectors.toList()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Stored report of shortlist run " + run.getId() + " is unreadable", e);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * @return false if the client went away
+     */
+    private static boolean sendProgress(SseEmitter emitter, ShortlistRunStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static void sendFinal(SseEmitter emitter, ShortlistRunStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name("complete").data(status));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * In-memory progress of a run executing on this node.
+     */
+    private static class LiveRun implements ShortlistProgressListener {
+
+        private final Long runId;
+        private final Long jobId;
+        private final int topN;
+        private final LocalDateTime startedAt;
+        private final long startNanos = System.nanoTime();
+
+        private volatile int total;
+        private final AtomicInteger parsed = new AtomicInteger();
+        private final AtomicInteger scored = new AtomicInteger();
+        private final AtomicLong lastEmitNanos = new AtomicLong(System.nanoTime());
+
+        // Best N so far; the root is the weakest of them
+        private final PriorityQueue<ShortlistResult> best = new PriorityQueue<>(
+                Comparator.comparingDouble(ShortlistResult::getComputedScore));
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private ShortlistRunStatus finalStatus;
+
+        LiveRun(ShortlistRun run) {
+            this.runId = run.getId();
+            this.jobId = run.getJobId();
+            this.topN = run.getTopN();
+            this.startedAt = run.getStartedAt();
+        }
+
+        @Override
+        public void onStarted(int totalApplications) {
+            this.total = totalApplications;
+            broadcast("progress", snapshot());
+        }
+
+        @Override
+        public void onParsed(Long applicationId) {
+            parsed.incrementAndGet();
+        }
+
+        @Override
+        public void onScored(ShortlistResult result) {
+            synchronized (best) {
+                best.offer(result);
+                if (best.size() > topN) {
+                    best.poll();
+                }
+            }
+            scored.incrementAndGet();
+
+            long now = System.nanoTime();
+            long last = lastEmitNanos.get();
+            if (now - last >= EMIT_INTERVAL_NANOS && lastEmitNanos.compareAndSet(last, now)) {
+                broadcast("progress", snapshot());
+            }
+        }
+
+        ShortlistRunStatus snapshot() {
+            ShortlistRunStatus status = new ShortlistRunStatus();
+            status.setRunId(runId);
+            status.setJobId(jobId);
+            status.setTopN(topN);
+            status.setStatus("RUNNING");
+            status.setTotal(total);
+            status.setStartedAt(startedAt);
+
+            int scoredCount = scored.get();
+            status.setParsed(parsed.get());
+            status.setScored(scoredCount);
+            if (scoredCount > 0) {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                long remainingNanos = elapsedNanos / scoredCount * Math.max(0, total - scoredCount);
+                status.setEtaSeconds(TimeUnit.NANOSECONDS.toSeconds(remainingNanos));
+            }
+
+            List<ShortlistResult> ranking;
+            synchronized (best) {
+                ranking = new ArrayList<>(best);
+            }
+            ranking.sort(Comparator.comparingDouble(ShortlistResult::getComputedScore).reversed());
+            status.setRanking(ranking);
+            return status;
+        }
+
+        synchronized void addEmitter(SseEmitter emitter) {
+            if (finalStatus != null) {
+                sendFinal(emitter, finalStatus);
+                return;
+            }
+            emitters.add(emitter);
+            emitter.onCompletion(() -> emitters.remove(emitter));
+            emitter.onTimeout(() -> emitters.remove(emitter));
+            send(emitter, "progress", snapshot());
+        }
+
+        synchronized void finish(ShortlistRunStatus status) {
+            this.finalStatus = status;
+            for (SseEmitter emitter : emitters) {
+                sendFinal(emitter, status);
+            }
+            emitters.clear();
+        }
+
+        private void broadcast(String event, ShortlistRunStatus status) {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, event, status);
+            }
+        }
+
+        private void send(SseEmitter emitter, String event, ShortlistRunStatus status) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(status));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.hrautoshortlist.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Skill and certification taxonomy: canonical term names with a category and
+ * optional synonyms ("k8s" for "kubernetes"), as read from the taxonomy JSON
+ * (see skill-taxonomy.json). Extraction reports every spelling under the
+ * canonical name.
+ *
+ * Immutable; the compiled dictionary is built once per taxonomy and swapped as a
+ * whole by SkillTaxonomyService.
+ */
+public final class SkillTaxonomy {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public record Term(String name, String category, List<String> synonyms) {
+        public Term {
+            synonyms = synonyms != null ? List.copyOf(synonyms) : List.of();
+        }
+    }
+
+    // Shape of the JSON file
+    record Content(List<Term> skills, List<Term> certifications) {
+    }
+
+    private final List<Term> skills;
+    private final List<Term> certifications;
+    private final String fingerprint;
+    private final CvFieldCollector.Dictionary dictionary;
+
+    // Lowercased spelling -> what it extracts as ("skill:<name>" / "certification:<name>")
+    private final Map<String, String> meaningOfForm = new HashMap<>();
+
+    private SkillTaxonomy(List<Term> skills, List<Term> certifications) {
+        this.skills = List.copyOf(skills);
+        this.certifications = List.copyOf(certifications);
+
+        List<String> forms = new ArrayList<>();
+        List<Integer> termOfForm = new ArrayList<>();
+        String[] terms = new String[skills.size() + certifications.size()];
+        StringBuilder canonical = new StringBuilder();
+        int t = 0;
+        for (Term term : this.skills) {
+            terms[t] = addTerm("skill", term, t, forms, termOfForm, canonical);
+            t++;
+        }
+        for (Term term : this.certifications) {
+            terms[t] = addTerm("certification", term, t, forms, termOfForm, canonical);
+            t++;
+        }
+
+        this.dictionary = new CvFieldCollector.Dictionary(forms,
+                termOfForm.stream().mapToInt(Integer::intValue).toArray(), terms, skills.size());
+        this.fingerprint = sha256(canonical.toString());
+    }
+
+    /**
+     * Parse and validate a taxonomy document.
+     *
+     * @throws IllegalArgumentException if the JSON is malformed, a name is
+     *                                  blank or a spelling is used twice
+     */
+    public static SkillTaxonomy parse(String json) {
+        Content content;
+        try {
+            content = MAPPER.readValue(json, Content.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid skill taxonomy: " + e.getOriginalMessage(), e);
+        }
+        if (content == null) {
+            throw new IllegalArgumentException("Invalid skill taxonomy: empty document");
+        }
+        return new SkillTaxonomy(Objects.requireNonNullElse(content.skills(), List.of()),
+                Objects.requireNonNullElse(content.certifications(), List.of()));
+    }
+
+    private String addTerm(String kind, Term term, int index, List<String> forms, List<Integer> termOfForm,
+            StringBuilder canonical) {
+        if (term == null || term.name() == null || term.name().isBlank()) {
+            throw new IllegalArgumentException("Invalid skill taxonomy: " + kind + " without a name");
+        }
+        String name = term.name().trim();
+        String meaning = kind + ":" + name;
+        canonical.append(meaning).append('\t').append(Objects.toString(term.category(), ""));
+
+        List<String> spellings = new ArrayList<>();
+        spellings.add(name);
+        spellings.addAll(term.synonyms());
+        Set<String> ownForms = new HashSet<>();
+        for (String spelling : spellings) {
+            if (spelling == null || spelling.isBlank()) {
+                throw new IllegalArgumentException("Invalid skill taxonomy: blank synonym of " + name);
+            }
+            String form = spelling.trim();
+            String key = form.toLowerCase(Locale.ROOT);
+            if (!ownForms.add(key)) {
+                continue;
+            }
+            String other = meaningOfForm.putIfAbsent(key, meaning);
+            if (other != null) {
+                throw new IllegalArgumentException(
+                        "Invalid skill taxonomy: '" + form + "' is used by both " + other + " and " + meaning);
+            }
+            forms.add(form);
+            termOfForm.add(index);
+            canonical.append('\t').append(form);
+        }
+        canonical.append('\n');
+        return name;
+    }
+
+    public List<Term> getSkills() {
+        return skills;
+    }
+
+    public List<Term> getCertifications() {
+        return certifications;
+    }
+
+    public int getSynonymCount() {
+        return meaningOfForm.size() - skills.size() - certifications.size();
+    }
+
+    /**
+     * SHA-256 of the normalized content; equal for documents that only differ in
+     * formatting.
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public CvFieldCollector.Dictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * The skill name stored on parses for a spelling of it (any case, or a
+     * synonym), or null if the spelling is not a skill of this taxonomy.
+     */
+    public String canonicalSkill(String spelling) {
+        String meaning = meaningOfForm.get(spelling.trim().toLowerCase(Locale.ROOT));
+        return meaning != null && meaning.startsWith("skill:") ? meaning.substring("skill:".length()) : null;
+    }
+
+    /**
+     * Spellings (lowercased) that extract differently under this taxonomy than
+     * under {@code previous}: added, removed, or moved to another term. Only CVs
+     * containing one of them can get a different extraction result; category
+     * changes do not affect extraction.
+     */
+    public Set<String> changedForms(SkillTaxonomy previous) {
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> form : meaningOfForm.entrySet()) {
+            if (!form.getValue().equals(previous.meaningOfForm.get(form.getKey()))) {
+                changed.add(form.getKey());
+            }
+        }
+        for (String form : previous.meaningOfForm.keySet()) {
+            if (!meaningOfForm.containsKey(form)) {
+                changed.add(form);
+            }
+        }
+        return changed;
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.hrautoshortlist.service;
+
+import java.util.Set;
+
+/**
+ * Published by the node that applies a new skill taxonomy, with the lowercased
+ * spellings whose extraction result changed.
+ */
+public record SkillTaxonomyChangedEvent(String fingerprint, Set<String> changedForms) {
+}
@@ -0,0 +1,192 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.entity.SkillTaxonomyVersion;
+import com.example.hrautoshortlist.repository.SkillTaxonomyVersionRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Holds the current skill taxonomy and its compiled dictionary.
+ *
+ * The taxonomy is read from {@code shortlist.taxonomy.location} and reloaded
+ * when the file changes or on request, without a restart: a new taxonomy is
+ * compiled first and then swapped in with a single volatile write, so a parse
+ * uses either the old or the new dictionary throughout. Every applied taxonomy
+ * is recorded in skill_taxonomy_versions; other nodes pick up the latest one
+ * from there, and the node that records a change publishes a
+ * SkillTaxonomyChangedEvent so the affected CVs are re-extracted once.
+ */
+@Service
+public class SkillTaxonomyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTaxonomyService.class);
+
+    @Value("${shortlist.taxonomy.location:classpath:skill-taxonomy.json}")
+    private String location = "classpath:skill-taxonomy.json";
+
+    private final SkillTaxonomyVersionRepository versionRepository;
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile SkillTaxonomy current;
+
+    // Modification time of the file when it was last read (0 if not a plain file)
+    private long fileLastModified;
+
+    public SkillTaxonomyService(SkillTaxonomyVersionRepository versionRepository, ResourceLoader resourceLoader,
+            ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
+        this.versionRepository = versionRepository;
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    synchronized void init() {
+        Resource resource = resourceLoader.getResource(location);
+        String json = read(resource);
+        SkillTaxonomy fromFile = SkillTaxonomy.parse(json);
+        fileLastModified = lastModified(resource);
+
+        Optional<SkillTaxonomyVersion> latest = versionRepository.findFirstByOrderByAppliedAtDescIdDesc();
+        if (latest.isPresent() && !latest.get().getFingerprint().equals(fromFile.fingerprint())
+                && versionRepository.findByFingerprint(fromFile.fingerprint()).isPresent()) {
+            // This node's file is older than what has been applied since (e.g. during a rolling deploy)
+            current = SkillTaxonomy.parse(latest.get().getContent());
+            logger.info("Skill taxonomy at {} is outdated; using the latest applied version {}", location,
+                    current.fingerprint());
+            return;
+        }
+        swap(fromFile);
+        record(fromFile, json);
+    }
+
+    public SkillTaxonomy current() {
+        return current;
+    }
+
+    /**
+     * Dictionary for a new extraction. Callers take it once per CV so one CV is
+     * never matched against two taxonomies.
+     */
+    public CvFieldCollector.Dictionary dictionary() {
+        return current.dictionary();
+    }
+
+    /**
+     * Read the taxonomy file again and apply it. An invalid file is rejected and
+     * the current taxonomy stays in use.
+     *
+     * @throws IllegalArgumentException if the file is not a valid taxonomy
+     */
+    public synchronized SkillTaxonomy reload() {
+        Resource resource = resourceLoader.getResource(location);
+        String json = read(resource);
+        SkillTaxonomy next = SkillTaxonomy.parse(json);
+        fileLastModified = lastModified(resource);
+
+        if (!next.fingerprint().equals(current.fingerprint())) {
+            swap(next);
+        }
+        record(next, json);
+        return next;
+    }
+
+    /**
+     * Reload when the file has changed, otherwise adopt a newer taxonomy applied
+     * by another node.
+     */
+    @Scheduled(fixedDelayString = "${shortlist.taxonomy.refresh-interval-ms:60000}",
+            initialDelayString = "${shortlist.taxonomy.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            long modified = lastModified(resourceLoader.getResource(location));
+            if (modified != 0 && modified != fileLastModified) {
+                logger.info("Skill taxonomy file {} changed; reloading", location);
+                reload();
+                return;
+            }
+            synchronized (this) {
+                versionRepository.findFirstByOrderByAppliedAtDescIdDesc()
+                        .filter(latest -> !latest.getFingerprint().equals(current.fingerprint()))
+                        .ifPresent(latest -> swap(SkillTaxonomy.parse(latest.getContent())));
+            }
+        } catch (Exception e) {
+            logger.error("Skill taxonomy refresh failed; keeping the current taxonomy", e);
+        }
+    }
+
+    private void swap(SkillTaxonomy next) {
+        current = next;
+        logger.info("Skill taxonomy {} in use: {} skills, {} certifications, {} synonyms", next.fingerprint(),
+                next.getSkills().size(), next.getCertifications().size(), next.getSynonymCount());
+    }
+
+    /**
+     * Make the taxonomy the latest applied version and, if that changes the
+     * latest version, publish the spellings that changed against it.
+     */
+    private void record(SkillTaxonomy taxonomy, String json) {
+        String previousJson;
+        try {
+            previousJson = transactionTemplate.execute(status -> {
+                Optional<SkillTaxonomyVersion> latest = versionRepository.findFirstByOrderByAppliedAtDescIdDesc();
+                if (latest.isPresent() && latest.get().getFingerprint().equals(taxonomy.fingerprint())) {
+                    return null;
+                }
+                SkillTaxonomyVersion version = versionRepository.findByFingerprint(taxonomy.fingerprint())
+                        .orElseGet(() -> new SkillTaxonomyVersion(taxonomy.fingerprint(), json));
+                version.setAppliedAt(LocalDateTime.now());
+                versionRepository.saveAndFlush(version);
+                return latest.map(SkillTaxonomyVersion::getContent).orElse("");
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node recorded the same taxonomy first and handles the change
+            return;
+        }
+        if (previousJson == null || previousJson.isEmpty()) {
+            // Unchanged, or the first version ever recorded
+            return;
+        }
+
+        Set<String> changedForms = taxonomy.changedForms(SkillTaxonomy.parse(previousJson));
+        logger.info("Skill taxonomy {} changes {} spellings", taxonomy.fingerprint(), changedForms.size());
+        if (!changedForms.isEmpty()) {
+            eventPublisher.publishEvent(new SkillTaxonomyChangedEvent(taxonomy.fingerprint(), changedForms));
+        }
+    }
+
+    private static String read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read skill taxonomy " + resource.getDescription(), e);
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.entity.SkillTerm;
+import com.example.hrautoshortlist.repository.SkillTermRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Global dictionary mapping each normalized skill term to a dense integer ID,
+ * used as its bit position in skill bitsets.
+ *
+ * Only terms that appear in job criteria are interned: a CV term outside the
+ * vocabulary cannot match any criteria, so it does not need a bit.
+ *
+ * Rows are only ever appended, and appended one node at a time, so the
+ * highest ID identifies a state of the table and every node that has seen it
+ * knows the same terms up to it. Each node keeps every term up to its highest
+ * known ID; bitsets are stamped with that version (see size()). A bitset with
+ * an older stamp is rebuilt; a newer stamp means another node added terms, and
+ * this node loads them rather than rebuilding with fewer.
+ */
+@Service
+public class SkillVocabulary {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillVocabulary.class);
+
+    private final SkillTermRepository skillTermRepository;
+
+    // New terms are committed on their own, independent of the caller's transaction
+    private final TransactionTemplate newTransaction;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> terms = new ConcurrentHashMap<>();
+    private volatile int maxId = 0;
+
+    // Guards loading and adding terms. Not synchronized: callers run on virtual
+    // threads, and the holder waits on the database
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SkillVocabulary(SkillTermRepository skillTermRepository, PlatformTransactionManager transactionManager) {
+        this.skillTermRepository = skillTermRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+        logger.info("Loaded skill vocabulary with {} terms", ids.size());
+    }
+
+    /**
+     * Load the terms other nodes have added since this node last looked.
+     */
+    public void refresh() {
+        lock.lock();
+        try {
+            registerAll(skillTermRepository.findByIdGreaterThanOrderByIdAsc(maxId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static String normalize(String term) {
+        return term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Number of bit positions currently in use. Also the version of the
+     * vocabulary this node knows in full, so it is stamped on stored bitsets.
+     */
+    public int size() {
+        return maxId + 1;
+    }
+
+    /**
+     * Whether a bitset stamped with the given size can be used as it is. Loads
+     * the newer terms first when it was built by a node that knew more.
+     */
+    public boolean isCurrent(Integer stampedSize) {
+        if (stampedSize == null) {
+            return false;
+        }
+        if (stampedSize > size()) {
+            refresh();
+        }
+        return stampedSize == size();
+    }
+
+    /**
+     * ID of a term, or -1 if it is not in the vocabulary.
+     */
+    public int idOf(String term) {
+        Integer id = ids.get(normalize(term));
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Normalized term with the given ID, or null if the ID is unknown (after
+     * loading terms other nodes have added).
+     */
+    public String termOf(int id) {
+        String term = terms.get(id);
+        if (term == null && id > maxId) {
+            refresh();
+            term = terms.get(id);
+        }
+        return term;
+    }
+
+    /**
+     * ID of a term, adding it to the vocabulary if needed.
+     */
+    public int intern(String term) {
+        String key = normalize(term);
+        if (key.isEmpty()) {
+            return -1;
+        }
+
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        lock.lock();
+        try {
+            id = ids.get(key);
+            if (id != null) {
+                return id;
+            }
+            // The table lock makes nodes add terms one at a time, so a node that
+            // sees an ID also sees every lower one. The new term is among the rows
+            // read back, which are registered once they are committed
+            List<SkillTerm> added = newTransaction.execute(status -> {
+                skillTermRepository.lockForInsert();
+                if (skillTermRepository.findByTerm(key).isEmpty()) {
+                    skillTermRepository.saveAndFlush(new SkillTerm(key));
+                }
+                return skillTermRepository.findByIdGreaterThanOrderByIdAsc(maxId);
+            });
+            registerAll(added);
+        } finally {
+            lock.unlock();
+        }
+        return ids.get(key);
+    }
+
+    // In ID order, so maxId never runs ahead of the terms registered
+    private void registerAll(List<SkillTerm> added) {
+        for (SkillTerm term : added) {
+            register(term);
+        }
+    }
+
+    private void register(SkillTerm term) {
+        ids.put(term.getTerm(), term.getId());
+        terms.put(term.getId(), term.getTerm());
+        if (term.getId() > maxId) {
+            maxId = term.getId();
+        }
+    }
+
+    /**
+     * Bitset of the known terms among the given values. Unknown values are skipped.
+     */
+    public long[] bitsOf(Collection<String> values) {
+        return bitsOf(values, size());
+    }
+
+    /**
+     * Bitset limited to the first {@code width} IDs, so it matches a vocabulary
+     * size the caller captured (and stamps on the stored bitset) beforehand.
+     */
+    public long[] bitsOf(Collection<String> values, int width) {
+        long[] bits = new long[wordsFor(width)];
+        if (values != null) {
+            for (String value : values) {
+                int id = idOf(value);
+                if (id >= 0 && id < width) {
+                    bits[id >>> 6] |= 1L << id;
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Bitset of the given criteria terms, interning any that are new.
+     */
+    public long[] maskOf(Collection<String> terms) {
+        if (terms != null) {
+            for (String term : terms) {
+                intern(term);
+            }
+        }
+        return bitsOf(terms);
+    }
+
+    private static int wordsFor(int bitCount) {
+        return (bitCount + 63) >>> 6;
+    }
+
+    /**
+     * Number of bits set in both the mask and the candidate bitset.
+     */
+    public static int countShared(long[] mask, long[] bits) {
+        if (bits == null) {
+            return 0;
+        }
+        int count = 0;
+        int words = Math.min(mask.length, bits.length);
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(mask[i] & bits[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Number of mask bits set in either of the two candidate bitsets.
+     */
+    public static int countSharedEither(long[] mask, long[] first, long[] second) {
+        int count = 0;
+        for (int i = 0; i < mask.length; i++) {
+            long either = (first != null && i < first.length ? first[i] : 0L)
+                    | (second != null && i < second.length ? second[i] : 0L);
+            count += Long.bitCount(mask[i] & either);
+        }
+        return count;
+    }
+
+    /**
+     * IDs of the mask bits that are (or, with {@code present} false, are not)
+     * set in the candidate bitset, in ascending order.
+     */
+    public static int[] idsOf(long[] mask, long[] bits, boolean present) {
+        int[] found = new int[cardinality(mask)];
+        int count = 0;
+        for (int i = 0; i < mask.length; i++) {
+            long word = bits != null && i < bits.length ? bits[i] : 0L;
+            long selected = mask[i] & (present ? word : ~word);
+            while (selected != 0) {
+                found[count++] = (i << 6) + Long.numberOfTrailingZeros(selected);
+                selected &= selected - 1;
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.repository.ParsedCVRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Re-extracts the fields of stored parses after a skill taxonomy change.
+ *
+ * Only CVs whose stored text contains one of the changed spellings can extract
+ * differently, so each stored text is checked against a small automaton of just
+ * those spellings and only the matching ones are re-extracted (from the stored
+ * text, without reading the file again), saved and rescored.
+ */
+@Service
+public class TaxonomyReextractionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaxonomyReextractionService.class);
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ParsedCVRepository parsedCVRepository;
+    private final CvTextStore cvTextStore;
+    private final CVParsingService cvParsingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService ioExecutor;
+
+    public TaxonomyReextractionService(ParsedCVRepository parsedCVRepository, CvTextStore cvTextStore,
+            CVParsingService cvParsingService, ApplicationEventPublisher eventPublisher,
+            @Qualifier("cvIoExecutor") ExecutorService ioExecutor) {
+        this.parsedCVRepository = parsedCVRepository;
+        this.cvTextStore = cvTextStore;
+        this.cvParsingService = cvParsingService;
+        this.eventPublisher = eventPublisher;
+        this.ioExecutor = ioExecutor;
+    }
+
+    @EventListener
+    public void onTaxonomyChanged(SkillTaxonomyChangedEvent event) {
+        ioExecutor.execute(() -> reextract(event));
+    }
+
+    void reextract(SkillTaxonomyChangedEvent event) {
+        KeywordMatcher changed = KeywordMatcher.of(event.changedForms());
+        long scanned = 0;
+        long updated = 0;
+        long lastId = 0;
+        try {
+            List<Long> ids;
+            do {
+                ids = parsedCVRepository.findSuccessfulIdsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+                for (Long parsedCvId : ids) {
+                    lastId = parsedCvId;
+                    scanned++;
+                    Optional<String> text = cvTextStore.load(parsedCvId);
+                    if (text.isEmpty() || changed.findAll(text.get()).isEmpty()) {
+                        continue;
+                    }
+                    Long applicationId = cvParsingService.reextract(parsedCvId, text.get());
+                    if (applicationId != null) {
+                        updated++;
+                        eventPublisher.publishEvent(new ApplicationIngestedEvent(applicationId));
+                    }
+                }
+            } while (ids.size() == BATCH_SIZE);
+        } catch (Exception e) {
+            logger.error("Re-extraction for skill taxonomy {} stopped after parsed CV {}", event.fingerprint(),
+                    lastId, e);
+            return;
+        }
+        logger.info("Skill taxonomy {}: scanned {} parsed CVs, re-extracted {}", event.fingerprint(), scanned,
+                updated);
+    }
+}
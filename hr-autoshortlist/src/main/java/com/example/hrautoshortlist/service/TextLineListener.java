@@ -0,0 +1,17 @@
+package com.example.hrautoshortlist.service;
+
+/**
+ * Receives extracted document text one line at a time while a CV is being parsed.
+ */
+public interface TextLineListener {
+
+    void onLine(String line);
+
+    /**
+     * True once nothing further in the document can change the result, so the
+     * parse may stop early.
+     */
+    default boolean isResolved() {
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.hrautoshortlist.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the best N items of a list with a bounded min-heap (O(size * log N))
+ * instead of sorting the whole list.
+ * Ties keep list order, so the result matches a stable sort followed by limit(N).
+ */
+public final class TopNSelector {
+
+    private TopNSelector() {
+    }
+
+    /**
+     * Indices of the best {@code n} items, best first.
+     *
+     * @param order comparator that sorts the best item first
+     */
+    public static <T> List<Integer> topIndices(List<T> items, int n, Comparator<? super T> order) {
+        if (n <= 0 || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Negative when item i ranks ahead of item j
+        Comparator<Integer> rank = (i, j) -> {
+            int cmp = order.compare(items.get(i), items.get(j));
+            return cmp != 0 ? cmp : Integer.compare(i, j);
+        };
+
+        // Root is the weakest of the current top N
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(n, items.size()), rank.reversed());
+        for (int i = 0; i < items.size(); i++) {
+            if (heap.size() < n) {
+                heap.offer(i);
+            } else if (rank.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(i);
+            }
+        }
+
+        List<Integer> best = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            best.add(heap.poll());
+        }
+        Collections.reverse(best);
+        return best;
+    }
+}
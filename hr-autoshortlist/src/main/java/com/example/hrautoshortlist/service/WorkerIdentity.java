@@ -0,0 +1,23 @@
+package com.example.hrautoshortlist.service;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+/**
+ * Identifies this process in the lease columns (locked_by) of background work.
+ * Unique per start: a restarted container usually keeps its host name and PID,
+ * and must not mistake the previous process's leases for its own.
+ */
+@Component
+public class WorkerIdentity {
+
+    // pid@host for reading logs, plus a random part for uniqueness
+    private final String id = ManagementFactory.getRuntimeMXBean().getName() + "/"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    public String id() {
+        return id;
+    }
+}
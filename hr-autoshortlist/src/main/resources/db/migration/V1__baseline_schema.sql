@@ -0,0 +1,142 @@
+-- Schema as spring.jpa.hibernate.ddl-auto=update created it before migrations
+-- were introduced. Everything is IF NOT EXISTS so this is a no-op on those
+-- databases and creates the same schema on a new one; the later migrations
+-- bring both up to date.
+
+CREATE TABLE IF NOT EXISTS users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email varchar(255) NOT NULL CONSTRAINT uk_users_email UNIQUE,
+    password varchar(255) NOT NULL,
+    username varchar(255) NOT NULL CONSTRAINT uk_users_username UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS applicants (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email varchar(255) NOT NULL CONSTRAINT uk_applicants_email UNIQUE,
+    full_name varchar(255),
+    password varchar(255) NOT NULL,
+    phone varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS candidates (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email varchar(255),
+    full_name varchar(255),
+    qualification varchar(255),
+    score float(53) NOT NULL,
+    skills varchar(255),
+    years_experience integer
+);
+
+CREATE TABLE IF NOT EXISTS candidate_users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email varchar(255) NOT NULL CONSTRAINT uk_candidate_users_email UNIQUE,
+    full_name varchar(255) NOT NULL,
+    password varchar(255),
+    phone varchar(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS password_reset_tokens (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email varchar(255) NOT NULL,
+    expiry_date timestamp(6) NOT NULL,
+    otp varchar(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    active boolean NOT NULL,
+    application_deadline timestamp(6),
+    created_at timestamp(6),
+    department varchar(255),
+    description varchar(4000),
+    job_type varchar(255) CHECK (job_type IN ('INTERNSHIP', 'GRADUATE_TRAINEE', 'PERMANENT')),
+    number_of_openings integer,
+    required_qualifications varchar(2000),
+    short_description varchar(1000),
+    title varchar(255),
+    view_count bigint,
+    years_experiance integer
+);
+
+CREATE TABLE IF NOT EXISTS job_skills (
+    job_id bigint NOT NULL CONSTRAINT fk_job_skills_job REFERENCES jobs,
+    skill varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS job_criteria (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id bigint CONSTRAINT uk_job_criteria_job UNIQUE CONSTRAINT fk_job_criteria_job REFERENCES jobs,
+    education_weight float(53),
+    experience_weight float(53),
+    keywords_weight float(53),
+    location varchar(255),
+    minimum_years_experience integer,
+    skills_weight float(53)
+);
+
+CREATE TABLE IF NOT EXISTS job_criteria_required_skills (
+    criteria_id bigint NOT NULL CONSTRAINT fk_job_criteria_required_skills_criteria REFERENCES job_criteria,
+    skill varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS job_criteria_preferred_skills (
+    criteria_id bigint NOT NULL CONSTRAINT fk_job_criteria_preferred_skills_criteria REFERENCES job_criteria,
+    skill varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS job_criteria_education_levels (
+    criteria_id bigint NOT NULL CONSTRAINT fk_job_criteria_education_levels_criteria REFERENCES job_criteria,
+    education_level varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS job_criteria_keywords (
+    criteria_id bigint NOT NULL CONSTRAINT fk_job_criteria_keywords_criteria REFERENCES job_criteria,
+    keyword varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS applications (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    candidate_id bigint NOT NULL CONSTRAINT fk_applications_candidate REFERENCES candidate_users,
+    job_id bigint NOT NULL CONSTRAINT fk_applications_job REFERENCES jobs,
+    candidate_qualifications varchar(2000),
+    certifications_filename varchar(255),
+    cv_filename varchar(255),
+    letter_filename varchar(255),
+    shortlisted boolean DEFAULT false NOT NULL,
+    skills varchar(2000)
+);
+
+CREATE TABLE IF NOT EXISTS interview_invitations (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    candidate_id bigint NOT NULL CONSTRAINT fk_interview_invitations_candidate REFERENCES candidate_users,
+    job_id bigint NOT NULL CONSTRAINT fk_interview_invitations_job REFERENCES jobs,
+    interview_date varchar(255),
+    interview_location varchar(255),
+    interview_mode varchar(255),
+    interview_time varchar(255),
+    sent_at timestamp(6),
+    status varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS parsed_cvs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id bigint CONSTRAINT uk_parsed_cvs_application UNIQUE
+        CONSTRAINT fk_parsed_cvs_application REFERENCES applications,
+    education_level varchar(255),
+    parsed_at timestamp(6),
+    parsing_error varchar(1000),
+    parsing_status varchar(255),
+    raw_text text,
+    years_of_experience integer
+);
+
+CREATE TABLE IF NOT EXISTS parsed_cv_skills (
+    parsed_cv_id bigint NOT NULL CONSTRAINT fk_parsed_cv_skills_parsed_cv REFERENCES parsed_cvs,
+    skill varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS parsed_cv_certifications (
+    parsed_cv_id bigint NOT NULL CONSTRAINT fk_parsed_cv_certifications_parsed_cv REFERENCES parsed_cvs,
+    certification varchar(255)
+);
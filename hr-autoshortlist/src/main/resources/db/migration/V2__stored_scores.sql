@@ -0,0 +1,19 @@
+-- Stored scores: shortlisting writes each application's score and its
+-- components, with the criteria version they were computed against, so the
+-- ranking and score-ordered listings read them instead of rescoring. NULL
+-- means not scored yet.
+ALTER TABLE applications ADD COLUMN score float(53);
+ALTER TABLE applications ADD COLUMN skills_score float(53);
+ALTER TABLE applications ADD COLUMN experience_score float(53);
+ALTER TABLE applications ADD COLUMN education_score float(53);
+ALTER TABLE applications ADD COLUMN keywords_score float(53);
+ALTER TABLE applications ADD COLUMN scored_criteria_version bigint;
+ALTER TABLE applications ADD COLUMN scored_at timestamp(6);
+
+-- Optimistic lock version of a job's criteria; a score is stale once it no
+-- longer matches. The default fills in existing rows.
+ALTER TABLE job_criteria ADD COLUMN version bigint DEFAULT 0;
+
+CREATE INDEX idx_applications_job_score ON applications (job_id, score DESC, id);
+CREATE INDEX idx_applications_job_id ON applications (job_id, id);
+CREATE INDEX idx_applications_score ON applications (score DESC, id);
@@ -0,0 +1,32 @@
+-- CV parse cache: parses are keyed by file content hash and parser version,
+-- with skills and certifications as bitsets over a shared vocabulary. Existing
+-- parses have neither: their bits are built from the skill lists when read,
+-- and a reparse counts them as stale.
+ALTER TABLE parsed_cvs ADD COLUMN content_hash varchar(64);
+ALTER TABLE parsed_cvs ADD COLUMN parser_version integer;
+ALTER TABLE parsed_cvs ADD COLUMN skill_bits bytea;
+ALTER TABLE parsed_cvs ADD COLUMN certification_bits bytea;
+ALTER TABLE parsed_cvs ADD COLUMN skill_vocabulary_size integer;
+
+CREATE INDEX idx_parsed_cvs_content_hash ON parsed_cvs (content_hash);
+CREATE INDEX idx_parsed_cv_skills_skill ON parsed_cv_skills (skill, parsed_cv_id);
+
+-- Raw text moves out of parsed_cvs.raw_text into compressed rows;
+-- LegacyRawTextMigration copies the existing text over at startup
+CREATE TABLE parsed_cv_texts (
+    parsed_cv_id bigint PRIMARY KEY,
+    compressed bytea NOT NULL,
+    original_length integer NOT NULL
+);
+
+CREATE TABLE skill_vocabulary (
+    id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    term varchar(255) NOT NULL CONSTRAINT uk_skill_vocabulary_term UNIQUE
+);
+
+CREATE TABLE skill_taxonomy_versions (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    applied_at timestamp(6) NOT NULL,
+    content text NOT NULL,
+    fingerprint varchar(64) NOT NULL CONSTRAINT uk_skill_taxonomy_versions_fingerprint UNIQUE
+);
@@ -0,0 +1,7 @@
+-- Applicant counts kept on the job instead of counted per listing row, starting
+-- from the applications already stored
+ALTER TABLE jobs ADD COLUMN applicant_count integer DEFAULT 0 NOT NULL;
+
+UPDATE jobs j SET applicant_count = (SELECT COUNT(*) FROM applications a WHERE a.job_id = j.id);
+
+CREATE INDEX idx_jobs_active_id ON jobs (active, id);
@@ -0,0 +1,59 @@
+-- Work tables for the background CV parse queue, full reparses and async
+-- shortlist runs and batches
+
+CREATE TABLE cv_parse_tasks (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id bigint NOT NULL CONSTRAINT uk_cv_parse_tasks_application UNIQUE,
+    attempts integer NOT NULL,
+    created_at timestamp(6),
+    last_error varchar(1000),
+    locked_at timestamp(6),
+    locked_by varchar(255),
+    next_attempt_at timestamp(6) NOT NULL,
+    status varchar(255) NOT NULL,
+    updated_at timestamp(6)
+);
+
+CREATE INDEX idx_cv_parse_tasks_due ON cv_parse_tasks (status, next_attempt_at);
+
+CREATE TABLE cv_reparse_jobs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    completed_at timestamp(6),
+    error varchar(1000),
+    failed_count integer NOT NULL,
+    heartbeat_at timestamp(6),
+    last_parsed_cv_id bigint NOT NULL,
+    locked_by varchar(255),
+    processed_count integer NOT NULL,
+    rate_per_second float(53) NOT NULL,
+    reparsed_count integer NOT NULL,
+    started_at timestamp(6),
+    status varchar(255) NOT NULL,
+    target_version integer NOT NULL,
+    total_count integer NOT NULL,
+    updated_at timestamp(6)
+);
+
+CREATE TABLE shortlist_batches (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    completed_at timestamp(6),
+    started_at timestamp(6),
+    status varchar(255) NOT NULL,
+    top_n integer NOT NULL,
+    total_jobs integer NOT NULL
+);
+
+CREATE TABLE shortlist_runs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    batch_id bigint,
+    completed_at timestamp(6),
+    error varchar(1000),
+    job_id bigint NOT NULL,
+    parsed_count integer,
+    report_json text,
+    scored_count integer,
+    started_at timestamp(6),
+    status varchar(255) NOT NULL,
+    top_n integer NOT NULL,
+    total_applications integer
+);
@@ -0,0 +1,57 @@
+-- Indexes for the lookups ddl-auto=update never indexed, and the unique
+-- constraint behind the one-application-per-job check.
+
+-- A candidate applies to a job once. ApplicationService checks this first, so
+-- duplicates can only come from concurrent submits; list them instead of
+-- guessing which one to delete.
+DO $$
+DECLARE
+    duplicates bigint;
+BEGIN
+    SELECT COUNT(*) INTO duplicates FROM (
+        SELECT 1 FROM applications GROUP BY candidate_id, job_id HAVING COUNT(*) > 1
+    ) d;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION '% candidate/job pairs have more than one application; remove the extra rows '
+            '(SELECT candidate_id, job_id, array_agg(id) FROM applications GROUP BY 1, 2 HAVING COUNT(*) > 1) '
+            'and restart', duplicates;
+    END IF;
+END $$;
+
+-- Also serves the per-candidate lookups (leading column)
+ALTER TABLE applications ADD CONSTRAINT uk_applications_candidate_job UNIQUE (candidate_id, job_id);
+
+-- findByEmailIgnoreCase / existsByEmailIgnoreCase compare upper(email)
+CREATE INDEX idx_candidate_users_email_upper ON candidate_users (upper(email));
+CREATE INDEX idx_users_email_upper ON users (upper(email));
+
+-- findByEmailAndOtp, and deleteByEmail via the leading column
+CREATE INDEX idx_password_reset_tokens_email_otp ON password_reset_tokens (email, otp);
+
+-- parsed_cvs.application_id is unique (and so indexed) on databases created
+-- from V1, but not on every database ddl-auto=update created
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_index i
+        JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+        WHERE i.indrelid = 'parsed_cvs'::regclass AND a.attname = 'application_id'
+    ) THEN
+        CREATE UNIQUE INDEX ux_parsed_cvs_application ON parsed_cvs (application_id);
+    END IF;
+END $$;
+
+CREATE INDEX idx_interview_invitations_job ON interview_invitations (job_id);
+CREATE INDEX idx_interview_invitations_candidate ON interview_invitations (candidate_id);
+
+CREATE INDEX idx_shortlist_runs_job ON shortlist_runs (job_id, started_at DESC);
+CREATE INDEX idx_shortlist_runs_batch ON shortlist_runs (batch_id, id);
+
+-- Element collections are loaded by their owner's ID
+CREATE INDEX idx_job_skills_job ON job_skills (job_id);
+CREATE INDEX idx_parsed_cv_skills_parsed_cv ON parsed_cv_skills (parsed_cv_id);
+CREATE INDEX idx_parsed_cv_certifications_parsed_cv ON parsed_cv_certifications (parsed_cv_id);
+CREATE INDEX idx_job_criteria_required_skills_criteria ON job_criteria_required_skills (criteria_id);
+CREATE INDEX idx_job_criteria_preferred_skills_criteria ON job_criteria_preferred_skills (criteria_id);
+CREATE INDEX idx_job_criteria_education_levels_criteria ON job_criteria_education_levels (criteria_id);
+CREATE INDEX idx_job_criteria_keywords_criteria ON job_criteria_keywords (criteria_id);
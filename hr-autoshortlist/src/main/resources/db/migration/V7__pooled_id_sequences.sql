@@ -0,0 +1,17 @@
+-- Tables written in bulk get their IDs from a sequence Hibernate allocates in
+-- blocks of 50 (allocationSize on the entity; the increments must match), so
+-- their inserts can be sent as JDBC batches. IDENTITY columns can't be
+-- batched: Hibernate has to run each insert on its own to read the ID back.
+
+-- Hibernate's pooled optimizer uses the 50 IDs up to and including the value
+-- nextval returns, so the first value is the current maximum plus 50
+CREATE SEQUENCE interview_invitations_seq INCREMENT BY 50 OWNED BY interview_invitations.id;
+SELECT setval('interview_invitations_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM interview_invitations), false);
+
+CREATE SEQUENCE shortlist_runs_seq INCREMENT BY 50 OWNED BY shortlist_runs.id;
+SELECT setval('shortlist_runs_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM shortlist_runs), false);
+
+-- Only the application assigns IDs now; an insert without one fails instead of
+-- taking an ID from the old identity sequence that a pooled block may also hold
+ALTER TABLE interview_invitations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE shortlist_runs ALTER COLUMN id DROP IDENTITY IF EXISTS;
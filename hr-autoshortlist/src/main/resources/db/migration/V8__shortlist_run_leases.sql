@@ -0,0 +1,8 @@
+-- Async shortlist runs store their progress and renew a lease while they
+-- execute, so other nodes can report it and runs whose node stopped are
+-- marked FAILED instead of staying RUNNING forever
+ALTER TABLE shortlist_runs ADD COLUMN locked_by varchar(255);
+ALTER TABLE shortlist_runs ADD COLUMN heartbeat_at timestamp(6);
+
+-- The abandoned-run check looks for unfinished runs with an old heartbeat
+CREATE INDEX idx_shortlist_runs_status ON shortlist_runs (status, heartbeat_at);
@@ -0,0 +1,8 @@
+-- Batches hold a lease like their runs do: the node working through a batch
+-- renews it between and during jobs. A batch whose node stopped is closed
+-- with errors and its jobs still QUEUED are failed, instead of both staying
+-- unfinished forever
+ALTER TABLE shortlist_batches ADD COLUMN locked_by varchar(255);
+ALTER TABLE shortlist_batches ADD COLUMN heartbeat_at timestamp(6);
+
+CREATE INDEX idx_shortlist_batches_status ON shortlist_batches (status, heartbeat_at);
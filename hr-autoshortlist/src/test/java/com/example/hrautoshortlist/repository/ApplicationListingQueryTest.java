@@ -0,0 +1,252 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.dto.ApplicationResponseDTO;
+import com.example.hrautoshortlist.dto.ListingPage;
+import com.example.hrautoshortlist.entity.Application;
+import com.example.hrautoshortlist.entity.CandidateUser;
+import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.entity.ParsedCV;
+import com.example.hrautoshortlist.repository.ApplicationListingRepository.Filter;
+import com.example.hrautoshortlist.repository.ApplicationListingRepository.Sort;
+import com.example.hrautoshortlist.repository.ApplicationRepository.JobApplicantCount;
+import com.example.hrautoshortlist.repository.ApplicationScoreRepository.StoredScore;
+import com.example.hrautoshortlist.repository.JobRepository.JobTypeStatistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The application and job listings must cost a fixed number of SQL statements
+ * however many rows they return (no per-row selects of the candidate, job,
+ * skills or applicant count).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationListingQueryTest {
+
+	private static final Filter NO_FILTER = new Filter(null, null, null, null, null, null);
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ApplicationRepository applicationRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	private Job backend;
+	private Job analyst;
+	private final List<Application> backendApplications = new ArrayList<>();
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		backend = entityManager.persist(new Job("Backend Engineer", "IT", 3, "Java services", "Java services", null));
+		analyst = entityManager.persist(new Job("Data Analyst", "Finance", 2, "Reporting", "Reporting", null));
+		for (int i = 0; i < 6; i++) {
+			CandidateUser candidate = entityManager.persist(
+					new CandidateUser("Candidate " + i, "candidate" + i + "@example.com", "07700" + i, null));
+			backendApplications.add(
+					entityManager.persist(new Application(candidate, backend, "Java", "cv-" + i + ".pdf", null)));
+			if (i % 2 == 0) {
+				entityManager.persist(new Application(candidate, analyst, "SQL", null, "letter-" + i + ".pdf"));
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void dashboardStatisticsAreOneStatement() {
+		List<JobTypeStatistics> rows = jobRepository.statisticsByTypeAndStatus();
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(2, rows.stream().mapToLong(JobTypeStatistics::getJobs).sum());
+		assertEquals(0, rows.stream().mapToLong(JobTypeStatistics::getViews).sum());
+	}
+
+	@Test
+	void jobListingIsOneStatement() {
+		List<ApplicationResponseDTO> rows = applicationRepository.findResponseDTOsByJobId(backend.getId());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(6, rows.size());
+		ApplicationResponseDTO first = rows.get(0);
+		assertEquals("Candidate 0", first.getFullname());
+		assertEquals("candidate0@example.com", first.getEmail());
+		assertEquals("/uploads/cv-0.pdf", first.getCvDownloadUrl());
+		assertNull(first.getLetterDownloadUrl());
+		assertEquals(backend.getId(), first.getJobId());
+		assertEquals("Backend Engineer", first.getJobTitle());
+	}
+
+	@Test
+	void pagesWalkEveryApplicationOnceAtOneStatementEach() {
+		List<Long> seen = new ArrayList<>();
+		ListingCursor cursor = null;
+		int pages = 0;
+		do {
+			statistics.clear();
+			ListingPage<ApplicationResponseDTO> page = applicationRepository.findListingPage(NO_FILTER,
+					Sort.ID, cursor, 4);
+			assertEquals(1, statistics.getPrepareStatementCount());
+			page.items().forEach(row -> seen.add(row.getId()));
+			cursor = ListingCursor.decode(page.nextCursor(), "id");
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(3, pages);
+		assertEquals(9, seen.size());
+		assertEquals(seen.stream().sorted().toList(), seen);
+	}
+
+	@Test
+	void scoreOrderWalksScoredThenUnscored() {
+		List<Long> ids = backendApplications.stream().map(Application::getId).toList();
+		score(ids.get(3), 50.0);
+		score(ids.get(1), 90.0);
+		score(ids.get(4), 90.0);
+
+		Filter backendOnly = new Filter(backend.getId(), null, null, null, null, null);
+		List<Long> seen = new ArrayList<>();
+		ListingCursor cursor = null;
+		do {
+			ListingPage<ApplicationResponseDTO> page = applicationRepository.findListingPage(backendOnly,
+					Sort.SCORE, cursor, 2);
+			page.items().forEach(row -> seen.add(row.getId()));
+			cursor = ListingCursor.decode(page.nextCursor(), "score");
+		} while (cursor != null);
+
+		assertEquals(List.of(ids.get(1), ids.get(4), ids.get(3), ids.get(0), ids.get(2), ids.get(5)), seen);
+	}
+
+	@Test
+	void parseFiltersMatchTheStoredParse() {
+		ParsedCV masters = new ParsedCV(backendApplications.get(0));
+		masters.setEducationLevel("Masters");
+		masters.setExtractedSkills(new ArrayList<>(List.of("Java", "Kubernetes")));
+		entityManager.persist(masters);
+		ParsedCV failed = new ParsedCV(backendApplications.get(1));
+		failed.setParsingStatus("FAILED");
+		entityManager.persist(failed);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertEquals(List.of(backendApplications.get(0).getId()), ids(new Filter(null, null, null, null, "Kubernetes", null)));
+		assertEquals(List.of(backendApplications.get(0).getId()), ids(new Filter(null, null, null, "Masters", null, null)));
+		assertEquals(List.of(backendApplications.get(1).getId()), ids(new Filter(null, null, "FAILED", null, null, null)));
+		assertEquals(List.of(), ids(new Filter(null, true, "SUCCESS", null, null, null)));
+	}
+
+	@Test
+	void searchMatchesNameEmailPhoneOrSkillsIgnoringCase() {
+		List<Long> analystIds = ids(new Filter(analyst.getId(), null, null, null, null, null));
+
+		assertEquals(List.of(backendApplications.get(2).getId()), ids(search(backend.getId(), "%candidate 2%")));
+		assertEquals(List.of(backendApplications.get(4).getId()), ids(search(backend.getId(), "%candidate4@%")));
+		assertEquals(List.of(backendApplications.get(5).getId()), ids(search(backend.getId(), "%077005%")));
+		assertEquals(analystIds, ids(search(null, "%sql%")));
+		assertEquals(List.of(), ids(search(null, "%candidate\\_%")));
+	}
+
+	private void score(Long applicationId, double score) {
+		applicationRepository.updateScore(applicationId, score, null, null, null, null, 1L, LocalDateTime.now());
+	}
+
+	private static Filter search(Long jobId, String pattern) {
+		return new Filter(jobId, null, null, null, null, pattern);
+	}
+
+	private List<Long> ids(Filter filter) {
+		return applicationRepository.findListingPage(filter, Sort.ID, null, 50).items().stream()
+				.map(ApplicationResponseDTO::getId)
+				.toList();
+	}
+
+	@Test
+	void applicantCountsAreOneGroupedStatement() {
+		Job empty = entityManager.persist(new Job("Designer", "Marketing", 1, "Brand", "Brand", null));
+		entityManager.flush();
+		statistics.clear();
+
+		Map<Long, Long> counts = applicationRepository
+				.countByJobIds(List.of(backend.getId(), analyst.getId(), empty.getId()))
+				.stream()
+				.collect(Collectors.toMap(JobApplicantCount::getJobId, JobApplicantCount::getApplicants));
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(Map.of(backend.getId(), 6L, analyst.getId(), 3L), counts);
+	}
+
+	@Test
+	void jobBoardIsOneStatement() {
+		List<Job> jobs = jobRepository.findActiveWithSkills();
+		jobs.forEach(job -> job.getSkills().size());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(2, jobs.size());
+	}
+
+	@Test
+	void storedApplicantCountsAreReconciled() {
+		jobRepository.adjustApplicantCount(backend.getId(), 6);
+		jobRepository.adjustApplicantCount(analyst.getId(), 5);
+
+		assertEquals(1, jobRepository.reconcileApplicantCounts());
+		entityManager.clear();
+		assertEquals(6, jobRepository.findById(backend.getId()).orElseThrow().getApplicantCount());
+		assertEquals(3, jobRepository.findById(analyst.getId()).orElseThrow().getApplicantCount());
+	}
+
+	@Test
+	void scoresAreStoredTogether() {
+		List<StoredScore> scores = new ArrayList<>();
+		for (int i = 0; i < backendApplications.size(); i++) {
+			scores.add(new StoredScore(backendApplications.get(i).getId(), 50.0 + i, 0.5, 1.0, i % 2 == 0 ? null : 0.8,
+					0.0));
+		}
+		LocalDateTime scoredAt = LocalDateTime.of(2026, 1, 15, 9, 30);
+
+		assertEquals(6, applicationRepository.storeScores(scores, 3L, scoredAt));
+		entityManager.clear();
+
+		Application first = applicationRepository.findById(backendApplications.get(0).getId()).orElseThrow();
+		assertEquals(50.0, first.getScore());
+		assertNull(first.getEducationScore());
+		assertEquals(3L, first.getScoredCriteriaVersion());
+		assertEquals(scoredAt, first.getScoredAt());
+		assertEquals(0.8, applicationRepository.findById(backendApplications.get(1).getId()).orElseThrow()
+				.getEducationScore());
+	}
+}
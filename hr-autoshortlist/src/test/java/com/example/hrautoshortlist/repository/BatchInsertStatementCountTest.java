@@ -0,0 +1,136 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.CandidateUser;
+import com.example.hrautoshortlist.entity.InterviewInvitation;
+import com.example.hrautoshortlist.entity.Job;
+import com.example.hrautoshortlist.entity.ShortlistRun;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk inserts into the tables with pooled sequence IDs must go out as JDBC
+ * batches: 1,000 rows cost a few dozen statements (one per batch of 50, plus
+ * one sequence call per 50 IDs), where IDENTITY IDs cost one statement per row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class BatchInsertStatementCountTest {
+
+	private static final int ROWS = 1_000;
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private InterviewInvitationRepository invitationRepository;
+
+	@Autowired
+	private ShortlistRunRepository runRepository;
+
+	private Job job;
+	private CandidateUser candidate;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		job = entityManager.persist(new Job("Backend Engineer", "IT", 3, "Java services", "Java services", null));
+		candidate = entityManager.persist(new CandidateUser("Candidate", "candidate@example.com", "07700", null));
+		entityManager.flush();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void invitationsAreInsertedInBatches() {
+		List<InterviewInvitation> invitations = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			InterviewInvitation invitation = new InterviewInvitation();
+			invitation.setCandidateUser(candidate);
+			invitation.setJob(job);
+			invitation.setStatus("SENT");
+			invitations.add(invitation);
+		}
+		invitationRepository.saveAll(invitations);
+		entityManager.flush();
+
+		assertEquals(ROWS, statistics.getEntityInsertCount());
+		assertFewStatements();
+		assertUniqueIds(invitations.stream().map(InterviewInvitation::getId).toList());
+	}
+
+	@Test
+	void invitationOutcomesAreStoredInOneStatement() {
+		List<InterviewInvitation> invitations = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			InterviewInvitation invitation = new InterviewInvitation();
+			invitation.setCandidateUser(candidate);
+			invitation.setJob(job);
+			invitation.setStatus("PENDING");
+			invitations.add(invitation);
+		}
+		invitations = invitationRepository.saveAll(invitations);
+		entityManager.flush();
+		statistics.clear();
+
+		List<Long> ids = invitations.stream().map(InterviewInvitation::getId).toList();
+		assertEquals(ROWS, invitationRepository.updateStatus(ids, "SENT", LocalDateTime.now()));
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void shortlistRunsAreInsertedInBatches() {
+		List<ShortlistRun> runs = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			ShortlistRun run = new ShortlistRun(job.getId(), 10);
+			run.setStatus("QUEUED");
+			runs.add(run);
+		}
+		runs = runRepository.saveAll(runs);
+		entityManager.flush();
+
+		assertEquals(ROWS, statistics.getEntityInsertCount());
+		assertFewStatements();
+		assertUniqueIds(runs.stream().map(ShortlistRun::getId).toList());
+	}
+
+	private void assertFewStatements() {
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue(statements <= ROWS / 10,
+				ROWS + " inserts took " + statements + " statements; are they still batched?");
+	}
+
+	private static void assertUniqueIds(List<Long> ids) {
+		Set<Long> unique = new HashSet<>(ids);
+		assertEquals(ROWS, unique.size());
+		assertTrue(unique.stream().allMatch(id -> id != null && id > 0));
+	}
+}
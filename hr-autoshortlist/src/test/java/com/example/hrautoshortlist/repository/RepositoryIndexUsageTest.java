@@ -0,0 +1,104 @@
+package com.example.hrautoshortlist.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every hot repository query must be able to use an index on the schema the
+ * Flyway migrations build. Sequential scans are disabled for the test
+ * transaction, so on these near-empty tables EXPLAIN shows the index the
+ * planner would use at scale, or a sequential scan if there is none.
+ *
+ * The SQL mirrors what Hibernate generates for each repository method (noted
+ * per case); keep them in step when a query changes.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryIndexUsageTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	static Stream<Arguments> hotQueries() {
+		return Stream.of(
+				Arguments.of("ApplicationRepository.findByJob_Id",
+						"SELECT * FROM applications WHERE job_id = 1",
+						"idx_applications_job_(id|score)"),
+				Arguments.of("ApplicationRepository.existsByCandidateUser_IdAndJob_Id",
+						"SELECT id FROM applications WHERE candidate_id = 1 AND job_id = 1 LIMIT 1",
+						"uk_applications_candidate_job"),
+				Arguments.of("ApplicationRepository.findByCandidateUser_Id",
+						"SELECT * FROM applications WHERE candidate_id = 1",
+						"uk_applications_candidate_job"),
+				Arguments.of("ApplicationRepository.findTopScored",
+						"SELECT * FROM applications WHERE job_id = 1 AND score IS NOT NULL "
+								+ "ORDER BY score DESC, id LIMIT 10",
+						"idx_applications_job_score"),
+				Arguments.of("ApplicationRepository.findListingPage (sort=score)",
+						"SELECT * FROM applications WHERE score IS NOT NULL ORDER BY score DESC, id LIMIT 101",
+						"idx_applications_score"),
+				Arguments.of("ParsedCVRepository.findByApplicationId",
+						"SELECT * FROM parsed_cvs WHERE application_id = 1",
+						"uk_parsed_cvs_application"),
+				Arguments.of("ParsedCV.extractedSkills",
+						"SELECT skill FROM parsed_cv_skills WHERE parsed_cv_id = 1",
+						"idx_parsed_cv_skills_parsed_cv"),
+				Arguments.of("Job.skills",
+						"SELECT skill FROM job_skills WHERE job_id = 1",
+						"idx_job_skills_job"),
+				Arguments.of("CandidateUserRepository.findByEmailIgnoreCase",
+						"SELECT * FROM candidate_users WHERE upper(email) = upper('jane@example.com')",
+						"idx_candidate_users_email_upper"),
+				Arguments.of("UserRepository.findByEmailIgnoreCase",
+						"SELECT * FROM users WHERE upper(email) = upper('hr@example.com')",
+						"idx_users_email_upper"),
+				Arguments.of("PasswordResetTokenRepository.findByEmailAndOtp",
+						"SELECT * FROM password_reset_tokens WHERE email = 'jane@example.com' AND otp = '123456'",
+						"idx_password_reset_tokens_email_otp"),
+				Arguments.of("CvParseTaskRepository.lockDue",
+						"SELECT * FROM cv_parse_tasks WHERE status = 'PENDING' AND next_attempt_at <= now() "
+								+ "ORDER BY next_attempt_at, id LIMIT 4",
+						"idx_cv_parse_tasks_due"),
+				Arguments.of("InterviewInvitationRepository.findByJob_Id",
+						"SELECT * FROM interview_invitations WHERE job_id = 1",
+						"idx_interview_invitations_job"),
+				Arguments.of("ShortlistRunRepository.findByJobIdOrderByStartedAtDesc",
+						"SELECT * FROM shortlist_runs WHERE job_id = 1 ORDER BY started_at DESC",
+						"idx_shortlist_runs_job"));
+	}
+
+	@BeforeEach
+	void disableSequentialScans() {
+		// Only for the test's transaction
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("hotQueries")
+	void usesIndex(String query, String sql, String expectedIndex) {
+		String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+		// "Index Scan using <index> on <table>", "Bitmap Index Scan on <index>"
+		assertTrue(plan.matches("(?s).*\\b(using|on) (" + expectedIndex + ")\\b.*"),
+				query + " should use " + expectedIndex + ", plan was:\n" + plan);
+	}
+}
@@ -0,0 +1,138 @@
+package com.example.hrautoshortlist.repository;
+
+import com.example.hrautoshortlist.entity.ShortlistBatch;
+import com.example.hrautoshortlist.entity.ShortlistRun;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs store their progress under their node's lease, and runs whose node
+ * stopped sending heartbeats are failed instead of staying RUNNING. Batches
+ * whose node stopped are closed, and the jobs they never started are failed.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ShortlistRunLeaseTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ShortlistRunRepository runRepository;
+
+	@Autowired
+	private ShortlistBatchRepository batchRepository;
+
+	private ShortlistRun run(String status, String lockedBy, LocalDateTime heartbeatAt) {
+		ShortlistRun run = new ShortlistRun(1L, 10);
+		run.setStatus(status);
+		run.setLockedBy(lockedBy);
+		run.setHeartbeatAt(heartbeatAt);
+		return entityManager.persistFlushFind(run);
+	}
+
+	@Test
+	void heartbeatStoresProgressOnlyForTheHoldingWorker() {
+		LocalDateTime now = LocalDateTime.now();
+		ShortlistRun run = run("RUNNING", "node-a", now.minusSeconds(10));
+
+		assertEquals(0, runRepository.heartbeat(run.getId(), "node-b", 40, 20, 10, now));
+		assertEquals(1, runRepository.heartbeat(run.getId(), "node-a", 40, 20, 10, now));
+		entityManager.clear();
+
+		ShortlistRun stored = runRepository.findById(run.getId()).orElseThrow();
+		assertEquals(40, stored.getTotalApplications());
+		assertEquals(20, stored.getParsedCount());
+		assertEquals(10, stored.getScoredCount());
+	}
+
+	@Test
+	void outcomeIsNotStoredAfterTheLeaseWasLost() {
+		LocalDateTime now = LocalDateTime.now();
+		ShortlistRun stalled = run("RUNNING", "node-a", now.minusMinutes(5));
+		ShortlistRun healthy = run("RUNNING", "node-a", now.minusSeconds(5));
+
+		// Another node fails the stalled run; its holder then finishes late
+		runRepository.failAbandoned(now.minusSeconds(60), "Interrupted", now);
+		assertEquals(0, runRepository.finish(stalled.getId(), "node-a", "COMPLETED", null, "{}", 40, 40, 40, now));
+		assertEquals(1, runRepository.finish(healthy.getId(), "node-a", "COMPLETED", null, "{}", 40, 40, 40, now));
+		entityManager.clear();
+
+		assertEquals("FAILED", runRepository.findById(stalled.getId()).orElseThrow().getStatus());
+		assertEquals("COMPLETED", runRepository.findById(healthy.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	void onlyRunsWithAnExpiredLeaseAreFailed() {
+		LocalDateTime now = LocalDateTime.now();
+		ShortlistRun alive = run("RUNNING", "node-a", now.minusSeconds(5));
+		ShortlistRun abandoned = run("RUNNING", "node-b", now.minusMinutes(5));
+		ShortlistRun finished = run("COMPLETED", "node-b", now.minusMinutes(5));
+
+		assertEquals(1, runRepository.failAbandoned(now.minusSeconds(60), "Interrupted", now));
+		entityManager.clear();
+
+		assertEquals("RUNNING", runRepository.findById(alive.getId()).orElseThrow().getStatus());
+		assertEquals("FAILED", runRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+		assertEquals("COMPLETED", runRepository.findById(finished.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	void abandonedBatchIsClosedAndItsQueuedRunsFailed() {
+		LocalDateTime now = LocalDateTime.now();
+		ShortlistBatch alive = batch("node-a", now.minusSeconds(5));
+		ShortlistBatch abandoned = batch("node-b", now.minusMinutes(5));
+		ShortlistRun waiting = queuedRun(alive);
+		ShortlistRun done = run("COMPLETED", "node-b", now.minusMinutes(6));
+		done.setBatchId(abandoned.getId());
+		entityManager.flush();
+		ShortlistRun neverStarted = queuedRun(abandoned);
+
+		assertEquals(0, batchRepository.heartbeat(abandoned.getId(), "node-a", now));
+		assertEquals(1, batchRepository.closeAbandoned(now.minusSeconds(60), now));
+		assertEquals(1, runRepository.failQueuedInClosedBatches("Not started", now));
+		entityManager.clear();
+
+		assertEquals("RUNNING", batchRepository.findById(alive.getId()).orElseThrow().getStatus());
+		assertEquals("COMPLETED_WITH_ERRORS", batchRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+		assertEquals("QUEUED", runRepository.findById(waiting.getId()).orElseThrow().getStatus());
+		assertEquals("COMPLETED", runRepository.findById(done.getId()).orElseThrow().getStatus());
+		assertEquals("FAILED", runRepository.findById(neverStarted.getId()).orElseThrow().getStatus());
+		// The closed batch no longer takes heartbeats, so its node stops starting jobs
+		assertEquals(0, batchRepository.heartbeat(abandoned.getId(), "node-b", now));
+		// Nor can it start a failed run or overwrite the batch status when it finishes late
+		assertEquals(0, runRepository.startQueued(neverStarted.getId(), "node-b", now));
+		assertEquals(0, batchRepository.finish(abandoned.getId(), "node-b", "COMPLETED", now));
+		assertEquals(1, runRepository.startQueued(waiting.getId(), "node-a", now));
+	}
+
+	private ShortlistBatch batch(String lockedBy, LocalDateTime heartbeatAt) {
+		ShortlistBatch batch = new ShortlistBatch(10, 2);
+		batch.setLockedBy(lockedBy);
+		batch.setHeartbeatAt(heartbeatAt);
+		return entityManager.persistFlushFind(batch);
+	}
+
+	private ShortlistRun queuedRun(ShortlistBatch batch) {
+		ShortlistRun run = new ShortlistRun(1L, 10);
+		run.setBatchId(batch.getId());
+		run.setStatus("QUEUED");
+		return entityManager.persistFlushFind(run);
+	}
+}
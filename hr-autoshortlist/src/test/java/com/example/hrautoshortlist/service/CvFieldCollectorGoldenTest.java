@@ -0,0 +1,64 @@
+package com.example.hrautoshortlist.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Field extraction over the CVs in src/test/resources/golden-cv must keep
+ * producing the recorded output in each .expected file. Regenerate an .expected
+ * file only for a deliberate extraction change (and bump PARSER_VERSION).
+ * Uses the bundled skill-taxonomy.json.
+ */
+class CvFieldCollectorGoldenTest {
+
+	private static CvFieldCollector.Dictionary dictionary;
+
+	@BeforeAll
+	static void loadTaxonomy() throws Exception {
+		try (InputStream in = CvFieldCollectorGoldenTest.class.getResourceAsStream("/skill-taxonomy.json")) {
+			dictionary = SkillTaxonomy.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8)).dictionary();
+		}
+	}
+
+	@TestFactory
+	Stream<DynamicTest> goldenCorpus() throws Exception {
+		Path corpus = Paths.get(Objects.requireNonNull(getClass().getResource("/golden-cv")).toURI());
+		List<Path> cvs;
+		try (Stream<Path> files = Files.list(corpus)) {
+			cvs = files.filter(f -> f.toString().endsWith(".txt")).sorted().toList();
+		}
+		return cvs.stream().map(cv -> DynamicTest.dynamicTest(cv.getFileName().toString(), () -> check(cv)));
+	}
+
+	private void check(Path cv) throws Exception {
+		Properties expected = new Properties();
+		try (Reader reader = Files.newBufferedReader(
+				Paths.get(cv.toString().replace(".txt", ".expected")), StandardCharsets.UTF_8)) {
+			expected.load(reader);
+		}
+
+		CvFieldCollector fields = CvFieldCollector.feed(Files.readString(cv, StandardCharsets.UTF_8),
+				new CvFieldCollector(dictionary));
+
+		assertEquals(expected.getProperty("skills"), String.join(" | ", fields.getSkills()), "skills");
+		assertEquals(expected.getProperty("certifications"), String.join(" | ", fields.getCertifications()),
+				"certifications");
+		assertEquals(expected.getProperty("years"),
+				fields.getYearsOfExperience() != null ? fields.getYearsOfExperience().toString() : "", "years");
+		assertEquals(expected.getProperty("education"), fields.getEducationLevel(), "education");
+	}
+}
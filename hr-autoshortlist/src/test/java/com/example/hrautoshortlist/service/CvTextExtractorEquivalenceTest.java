@@ -0,0 +1,141 @@
+package com.example.hrautoshortlist.service;
+
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The DOCX and plain-text fast paths must produce the same text as Tika (up to
+ * whitespace) and the same extracted fields, for the golden corpus as .txt and
+ * converted to .docx, and for the bundled warm-up DOCX.
+ */
+class CvTextExtractorEquivalenceTest {
+
+	private static final AutoDetectParser TIKA = new AutoDetectParser();
+
+	private static CvFieldCollector.Dictionary dictionary;
+
+	@TempDir
+	static Path tempDir;
+
+	@BeforeAll
+	static void loadTaxonomy() throws Exception {
+		try (InputStream in = CvTextExtractorEquivalenceTest.class.getResourceAsStream("/skill-taxonomy.json")) {
+			dictionary = SkillTaxonomy.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8)).dictionary();
+		}
+	}
+
+	@TestFactory
+	Stream<DynamicTest> fastPathsMatchTika() throws Exception {
+		Path corpus = Paths.get(Objects.requireNonNull(getClass().getResource("/golden-cv")).toURI());
+		List<Path> cvs;
+		try (Stream<Path> files = Files.list(corpus)) {
+			cvs = files.filter(f -> f.toString().endsWith(".txt")).sorted().toList();
+		}
+
+		List<DynamicTest> tests = new ArrayList<>();
+		for (Path cv : cvs) {
+			String name = cv.getFileName().toString();
+			tests.add(DynamicTest.dynamicTest(name, () -> check(new PlainTextExtractor(), cv)));
+			tests.add(DynamicTest.dynamicTest(name.replace(".txt", ".docx"),
+					() -> check(new DocxTextExtractor(), toDocx(cv))));
+		}
+		Path sample = Paths.get(Objects.requireNonNull(getClass().getResource("/tika-warmup/sample.docx")).toURI());
+		tests.add(DynamicTest.dynamicTest("tika-warmup/sample.docx", () -> check(new DocxTextExtractor(), sample)));
+		return tests.stream();
+	}
+
+	private void check(CvTextExtractor extractor, Path file) throws Exception {
+		byte[] head;
+		try (InputStream in = Files.newInputStream(file)) {
+			head = in.readNBytes(CvTextExtractor.HEAD_BYTES);
+		}
+		assertTrue(extractor.accepts(head, file.getFileName().toString()), "accepts");
+
+		StringBuilder fast = new StringBuilder();
+		assertTrue(extractor.extract(file, new DefaultHandler() {
+			@Override
+			public void characters(char[] ch, int start, int length) {
+				fast.append(ch, start, length);
+			}
+		}), "extract");
+
+		BodyContentHandler tika = new BodyContentHandler(-1);
+		try (InputStream in = Files.newInputStream(file)) {
+			TIKA.parse(in, tika, new Metadata(), new ParseContext());
+		}
+
+		assertEquals(normalize(tika.toString()), normalize(fast.toString()), "text");
+
+		CvFieldCollector expected = CvFieldCollector.feed(tika.toString(), new CvFieldCollector(dictionary));
+		CvFieldCollector actual = CvFieldCollector.feed(fast.toString(), new CvFieldCollector(dictionary));
+		assertEquals(expected.getSkills(), actual.getSkills(), "skills");
+		assertEquals(expected.getCertifications(), actual.getCertifications(), "certifications");
+		assertEquals(expected.getYearsOfExperience(), actual.getYearsOfExperience(), "years");
+		assertEquals(expected.getEducationLevel(), actual.getEducationLevel(), "education");
+	}
+
+	private static String normalize(String text) {
+		return text.replaceAll("\\s+", " ").trim();
+	}
+
+	/**
+	 * Minimal Word package with one paragraph per line of the text file.
+	 */
+	private static Path toDocx(Path txt) throws Exception {
+		StringBuilder body = new StringBuilder(
+				"<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>");
+		for (String line : Files.readAllLines(txt, StandardCharsets.UTF_8)) {
+			body.append("<w:p><w:r><w:t xml:space=\"preserve\">").append(escape(line)).append("</w:t></w:r></w:p>");
+		}
+		body.append("</w:body></w:document>");
+
+		Path docx = tempDir.resolve(txt.getFileName().toString().replace(".txt", ".docx"));
+		try (OutputStream out = Files.newOutputStream(docx); ZipOutputStream zip = new ZipOutputStream(out)) {
+			put(zip, "[Content_Types].xml", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+					+ "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+					+ "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+					+ "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+					+ "<Override PartName=\"/word/document.xml\" ContentType=\""
+					+ "application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/></Types>");
+			put(zip, "_rels/.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+					+ "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+					+ "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/"
+					+ "relationships/officeDocument\" Target=\"word/document.xml\"/></Relationships>");
+			put(zip, "word/document.xml", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" + body);
+		}
+		return docx;
+	}
+
+	private static void put(ZipOutputStream zip, String name, String content) throws Exception {
+		zip.putNextEntry(new ZipEntry(name));
+		zip.write(content.getBytes(StandardCharsets.UTF_8));
+		zip.closeEntry();
+	}
+
+	private static String escape(String text) {
+		return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.hrautoshortlist.service;
+
+import com.example.hrautoshortlist.repository.SkillTermRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two SkillVocabulary instances on one database stand in for two nodes: a
+ * bitset stamp means the same terms on both, and a node that sees a newer
+ * stamp catches up instead of rebuilding the bitset.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SkillVocabularyNodesTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private SkillTermRepository skillTermRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private SkillVocabulary startNode() {
+		SkillVocabulary vocabulary = new SkillVocabulary(skillTermRepository, transactionManager);
+		vocabulary.load();
+		return vocabulary;
+	}
+
+	@Test
+	void nodesAgreeOnTermsForTheSameStamp() {
+		SkillVocabulary nodeA = startNode();
+		SkillVocabulary nodeB = startNode();
+
+		int java = nodeA.intern("Java");
+		// B adds a term without ever having seen "java", and learns it on the way
+		int kubernetes = nodeB.intern("Kubernetes");
+		assertEquals(java, nodeB.idOf("java"));
+
+		// A CV bitset B built is newer than anything A knows: A loads the new term
+		long[] bits = nodeB.bitsOf(List.of("java", "kubernetes"), nodeB.size());
+		assertTrue(nodeA.isCurrent(nodeB.size()));
+		assertEquals(kubernetes, nodeA.idOf("kubernetes"));
+		assertArrayEquals(bits, nodeA.bitsOf(List.of("java", "kubernetes"), nodeA.size()));
+
+		// And an older stamp is stale on both
+		assertFalse(nodeA.isCurrent(nodeB.size() - 1));
+		assertFalse(nodeB.isCurrent(nodeB.size() - 1));
+	}
+
+	@Test
+	void unknownIdIsLoadedFromTheDatabase() {
+		SkillVocabulary nodeA = startNode();
+		SkillVocabulary nodeB = startNode();
+
+		int sql = nodeB.intern("SQL");
+		assertEquals("sql", nodeA.termOf(sql));
+	}
+}
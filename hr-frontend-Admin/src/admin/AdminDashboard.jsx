@@ -20,45 +20,27 @@ export default function AdminDashboard() {
       setLoading(true);
       console.log("📥 Fetching dashboard statistics...");
       
-      // Fetch all jobs
-      const jobsRes = await adminApi.get("/api/jobs");
-      console.log("✅ Jobs fetched:", jobsRes.data);
-      
-      const jobs = jobsRes.data;
-      
-      // Calculate job statistics
-      const totalJobs = jobs.length;
-      const activeJobs = jobs.filter(job => job.active === true).length;
-      const inactiveJobs = jobs.filter(job => job.active === false).length;
-      const totalViews = jobs.reduce((sum, job) => sum + (job.views || 0), 0);
-      
-      // Calculate job type breakdown
-      const jobTypeBreakdown = jobs.reduce((acc, job) => {
-        const type = job.jobType || "PERMANENT";
-        acc[type] = (acc[type] || 0) + 1;
-        return acc;
-      }, {});
-
-      console.log("📊 Calculated stats:", {
+      // Counts are aggregated by the backend; no job or application rows are downloaded
+      const res = await adminApi.get("/api/jobs/statistics");
+      console.log("📊 Statistics:", res.data);
+
+      const {
         totalJobs,
         activeJobs,
         inactiveJobs,
         totalViews,
-        jobTypeBreakdown
-      });
+        jobTypeBreakdown,
+        totalApplications,
+      } = res.data;
 
       setStats({
         totalJobs,
         activeJobs,
         inactiveJobs,
         totalViews,
-        jobTypeBreakdown,
+        jobTypeBreakdown: jobTypeBreakdown || {},
       });
-
-      // Fetch applicant count
-      const applicantsRes = await adminApi.get("/api/applications/all");
-      console.log("✅ Applicants:", applicantsRes.data.length);
-      setTotalApplicants(applicantsRes.data.length);
+      setTotalApplicants(totalApplications);
       
       setError("");
     } catch (err) {
@@ -1,13 +1,19 @@
 import { useEffect, useState } from "react";
-import adminApi from "../api/adminApi";
+import adminApi, { getPage } from "../api/adminApi";
 import { Link } from "react-router-dom";
 
+// Jobs fetched per request; more are loaded on demand
+const PAGE_SIZE = 20;
 
 function AdminJobsList() {
   const [jobs, setJobs] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
 
+  // Cursor of the next page of jobs (undefined once everything is shown)
+  const [nextCursor, setNextCursor] = useState();
+  const [loadingMore, setLoadingMore] = useState(false);
+
   useEffect(() => {
     loadJobs();
   }, []);
@@ -17,10 +23,11 @@ function AdminJobsList() {
       setLoading(true);
       console.log("📥 Fetching jobs from /api/jobs");
 
-      const res = await adminApi.get("/api/jobs");
+      const res = await getPage("/api/jobs", { limit: PAGE_SIZE });
       console.log("✅ Jobs fetched:", res.data);
 
       setJobs(res.data);
+      setNextCursor(res.nextCursor);
       setError("");
     } catch (err) {
       console.error("❌ Failed to load jobs:", err);
@@ -30,6 +37,21 @@ function AdminJobsList() {
     }
   };
 
+  const loadMoreJobs = async () => {
+    try {
+      setLoadingMore(true);
+      const res = await getPage("/api/jobs", { limit: PAGE_SIZE }, nextCursor);
+      setJobs((prev) => [...prev, ...res.data]);
+      setNextCursor(res.nextCursor);
+      setError("");
+    } catch (err) {
+      console.error("❌ Failed to load more jobs:", err);
+      setError("Failed to load more jobs");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const toggleJobStatus = async (jobId, currentStatus) => {
     try {
       await adminApi.put(`/api/jobs/${jobId}/toggle-status`);
@@ -238,6 +260,19 @@ function AdminJobsList() {
           );
         })}
       </div>
+
+      {/* Load More */}
+      {!loading && nextCursor && (
+        <div className="flex justify-center mt-6">
+          <button
+            onClick={loadMoreJobs}
+            disabled={loadingMore}
+            className="px-6 py-3 bg-white border border-slate-300 text-slate-700 rounded-lg font-semibold hover:bg-slate-50 transition-all duration-200 disabled:opacity-50 disabled:cursor-not-allowed"
+          >
+            {loadingMore ? "Loading..." : "Load more jobs"}
+          </button>
+        </div>
+      )}
     </div>
   
   );
@@ -1,14 +1,25 @@
 import { useEffect, useState } from "react";
 import { useParams } from "react-router-dom";
-import adminApi from "../api/adminApi";
+import adminApi, { getPage } from "../api/adminApi";
+
+// Applications fetched per request; more are loaded on demand
+const PAGE_SIZE = 50;
+
+// Pause after the last keystroke before the search is sent
+const SEARCH_DELAY_MS = 300;
 
 export default function ApplicantsByJobAdmin() {
   const { jobId } = useParams();
   const [candidates, setCandidates] = useState([]); // Original applications list
   const [shortlist, setShortlist] = useState([]);   // ✨ NEW: Stores detailed scoring results
   const [jobTitle, setJobTitle] = useState("");
+  const [applicantCount, setApplicantCount] = useState(0);
   const [loading, setLoading] = useState(false);
 
+  // Cursor of the next page of applications (undefined once all are loaded)
+  const [nextCursor, setNextCursor] = useState();
+  const [loadingMore, setLoadingMore] = useState(false);
+
   // ✨ NEW: Configurable number of candidates to shortlist (default: 100)
   const [topN, setTopN] = useState(100);
 
@@ -19,26 +30,60 @@ export default function ApplicantsByJobAdmin() {
   const [searchTerm, setSearchTerm] = useState("");
 
   useEffect(() => {
-    const loadData = async () => {
+    const loadJob = async () => {
       try {
         console.log("📥 Loading data for job:", jobId);
 
         // Fetch job details
         const jobRes = await adminApi.get(`/api/jobs/${jobId}`);
         setJobTitle(jobRes.data.title);
+        setApplicantCount(jobRes.data.applicantCount || 0);
         console.log("✅ Job loaded:", jobRes.data.title);
+      } catch (err) {
+        console.error("❌ Error loading job:", err);
+      }
+    };
 
-        // Fetch applications
-        const candRes = await adminApi.get(`/api/applications/byJob/${jobId}`);
+    loadJob();
+  }, [jobId]);
+
+  // The search runs on the server, so a new term reloads from the first page
+  const queryParams = () => ({ limit: PAGE_SIZE, search: searchTerm.trim() || undefined });
+
+  useEffect(() => {
+    let stale = false;
+    const loadCandidates = async () => {
+      try {
+        const candRes = await getPage(`/api/applications/byJob/${jobId}`, queryParams());
+        if (stale) return;
         console.log("✅ Applications loaded:", candRes.data);
         setCandidates(candRes.data);
+        setNextCursor(candRes.nextCursor);
       } catch (err) {
         console.error("❌ Error loading applicants:", err);
       }
     };
 
-    loadData();
-  }, [jobId]);
+    const timer = setTimeout(loadCandidates, searchTerm ? SEARCH_DELAY_MS : 0);
+    return () => {
+      stale = true;
+      clearTimeout(timer);
+    };
+  }, [jobId, searchTerm]);
+
+  const loadMoreCandidates = async () => {
+    setLoadingMore(true);
+    try {
+      const res = await getPage(`/api/applications/byJob/${jobId}`, queryParams(), nextCursor);
+      setCandidates((prev) => [...prev, ...res.data]);
+      setNextCursor(res.nextCursor);
+    } catch (err) {
+      console.error("❌ Error loading more applicants:", err);
+      alert("Failed to load more applicants");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
 
   // ✨ NEW: Handlers shortlisting with dynamic topN
@@ -67,6 +112,7 @@ export default function ApplicantsByJobAdmin() {
       setCandidates((prev) =>
         prev.filter((a) => a.id !== applicationId)
       );
+      setApplicantCount((count) => Math.max(0, count - 1));
       alert("Application deleted successfully");
     } catch (err) {
       console.error("Failed to delete application", err);
@@ -85,23 +131,13 @@ export default function ApplicantsByJobAdmin() {
     };
   };
 
-  // ✨ NEW: Sort and then Filter applications by search term
+  // ✨ NEW: Sort applications by score after shortlisting
   const sortedCandidates = shortlist.length > 0
     ? candidates
       .map(getApplicationWithScore)
       .sort((a, b) => (b.score || 0) - (a.score || 0))
     : candidates;
 
-  const filteredCandidates = sortedCandidates.filter(c => {
-    const search = searchTerm.toLowerCase();
-    return (
-      c.fullname?.toLowerCase().includes(search) ||
-      c.email?.toLowerCase().includes(search) ||
-      (c.phone && c.phone.includes(search)) ||
-      (c.skills && c.skills.toLowerCase().includes(search))
-    );
-  });
-
   return (
     <>
       {/* Page background */}
@@ -134,7 +170,7 @@ export default function ApplicantsByJobAdmin() {
                   value={topN}
                   onChange={(e) => setTopN(Math.max(1, parseInt(e.target.value) || 1))}
                   min="1"
-                  max={candidates.length}
+                  max={Math.max(applicantCount, candidates.length)}
                   className="border border-gray-300 bg-gray-50 px-4 py-2 rounded-xl focus:outline-none focus:ring-2 focus:ring-indigo-500 w-32"
                 />
               </div>
@@ -142,7 +178,7 @@ export default function ApplicantsByJobAdmin() {
               {/* ✨ CHANGED: Button calls handleShortlist */}
               <button
                 onClick={handleShortlist}
-                disabled={loading || candidates.length === 0}
+                disabled={loading || (applicantCount === 0 && candidates.length === 0)}
                 className="bg-emerald-600 text-white px-6 py-2 rounded-xl
                             shadow-md transition-all duration-300
                             hover:bg-emerald-700 hover:scale-105
@@ -174,7 +210,7 @@ export default function ApplicantsByJobAdmin() {
                   </span>
                   <input
                     type="text"
-                    placeholder="Search by name, email, or skills..."
+                    placeholder="Search applicants by name, email, phone, or skills..."
                     value={searchTerm}
                     onChange={(e) => setSearchTerm(e.target.value)}
                     className="block w-full pl-10 pr-4 py-2 bg-slate-50 border border-gray-200 rounded-xl focus:outline-none focus:ring-2 focus:ring-indigo-500 focus:bg-white transition-all shadow-sm"
@@ -203,12 +239,11 @@ export default function ApplicantsByJobAdmin() {
           {/* Empty state */}
           {candidates.length === 0 ? (
             <div className="bg-white rounded-3xl shadow-lg p-10 text-center text-gray-600">
-              No applicants yet.
+              {searchTerm ? `No applicants match "${searchTerm}"` : "No applicants yet."}
             </div>
           ) : (
             <ul className="space-y-6">
-              {/* ✨ CHANGED: map over filteredCandidates */}
-              {filteredCandidates.map((c) => {
+              {sortedCandidates.map((c) => {
                 const cWithScore = getApplicationWithScore(c); // Ensure we have score info
                 const showScore = showAllScores && cWithScore.score !== null;
 
@@ -333,6 +368,24 @@ export default function ApplicantsByJobAdmin() {
               })}
             </ul>
           )}
+
+          {/* Load More */}
+          {nextCursor && (
+            <div className="flex flex-col items-center gap-2 mt-8">
+              <p className="text-sm text-gray-600">
+                {searchTerm
+                  ? `Showing ${candidates.length} matching applicants`
+                  : `Showing ${candidates.length} of ${Math.max(applicantCount, candidates.length)} applicants`}
+              </p>
+              <button
+                onClick={loadMoreCandidates}
+                disabled={loadingMore}
+                className="bg-white text-indigo-700 border border-indigo-200 px-6 py-2 rounded-xl shadow-md transition-all duration-300 hover:bg-indigo-50 disabled:opacity-50 disabled:cursor-not-allowed font-medium"
+              >
+                {loadingMore ? "Loading..." : "Load more applicants"}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </>
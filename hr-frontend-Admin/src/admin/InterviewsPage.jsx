@@ -1,5 +1,9 @@
 import { useState, useEffect } from "react";
-import adminApi from "../api/adminApi";
+import adminApi, { getPage } from "../api/adminApi";
+
+// Rows fetched per request; more are loaded on demand
+const CANDIDATE_PAGE_SIZE = 50;
+const JOB_PAGE_SIZE = 20;
 
 export default function InterviewsPage() {
     const [candidates, setCandidates] = useState([]);
@@ -20,16 +24,23 @@ export default function InterviewsPage() {
 
     const [jobs, setJobs] = useState([]);
 
+    // Cursors of the next pages (undefined once everything is loaded)
+    const [candidatesCursor, setCandidatesCursor] = useState();
+    const [jobsCursor, setJobsCursor] = useState();
+    const [loadingMore, setLoadingMore] = useState(false);
+
     useEffect(() => {
         const fetchData = async () => {
             try {
-                const jobsRes = await adminApi.get("/api/jobs");
+                const jobsRes = await getPage("/api/jobs", { limit: JOB_PAGE_SIZE });
                 setJobs(jobsRes.data);
+                setJobsCursor(jobsRes.nextCursor);
 
-                // Correct endpoint: /api/applications/all
-                const appsRes = await adminApi.get("/api/applications/all");
-                const shortlisted = appsRes.data.filter(app => app.shortlisted);
-                setCandidates(shortlisted);
+                // Only shortlisted applications, filtered by the server
+                const appsRes = await getPage("/api/applications/all",
+                    { shortlisted: true, limit: CANDIDATE_PAGE_SIZE });
+                setCandidates(appsRes.data);
+                setCandidatesCursor(appsRes.nextCursor);
             } catch (err) {
                 console.error("Failed to fetch data", err);
             } finally {
@@ -39,6 +50,32 @@ export default function InterviewsPage() {
         fetchData();
     }, []);
 
+    const loadMoreCandidates = async () => {
+        setLoadingMore(true);
+        try {
+            const res = await getPage("/api/applications/all",
+                { shortlisted: true, limit: CANDIDATE_PAGE_SIZE }, candidatesCursor);
+            setCandidates(prev => [...prev, ...res.data]);
+            setCandidatesCursor(res.nextCursor);
+        } catch (err) {
+            console.error("Failed to load more candidates", err);
+            alert("Failed to load more candidates");
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
+    const loadMoreJobs = async () => {
+        try {
+            const res = await getPage("/api/jobs", { limit: JOB_PAGE_SIZE }, jobsCursor);
+            setJobs(prev => [...prev, ...res.data]);
+            setJobsCursor(res.nextCursor);
+        } catch (err) {
+            console.error("Failed to load more jobs", err);
+            alert("Failed to load more jobs");
+        }
+    };
+
     const handleSelectAll = (e) => {
         if (e.target.checked) {
             setSelectedIds(candidates.map(c => c.candidateId));
@@ -140,6 +177,18 @@ export default function InterviewsPage() {
                         </tbody>
                     </table>
                 </div>
+
+                {candidatesCursor && (
+                    <div className="flex justify-center mt-6">
+                        <button
+                            onClick={loadMoreCandidates}
+                            disabled={loadingMore}
+                            className="px-6 py-2 border border-slate-300 rounded-lg text-slate-700 hover:bg-white disabled:opacity-50 disabled:cursor-not-allowed"
+                        >
+                            {loadingMore ? "Loading..." : "Load more candidates"}
+                        </button>
+                    </div>
+                )}
             </div>
 
             {/* Modal */}
@@ -159,6 +208,15 @@ export default function InterviewsPage() {
                                     <option value="">-- Choose Job --</option>
                                     {jobs.map(j => <option key={j.id} value={j.id}>{j.title}</option>)}
                                 </select>
+                                {jobsCursor && (
+                                    <button
+                                        type="button"
+                                        onClick={loadMoreJobs}
+                                        className="mt-1 text-sm text-blue-600 hover:underline"
+                                    >
+                                        Load more jobs
+                                    </button>
+                                )}
                             </div>
                             <div className="grid grid-cols-2 gap-4">
                                 <div>
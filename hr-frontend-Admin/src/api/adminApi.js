@@ -59,4 +59,13 @@ adminApi.interceptors.response.use(
   }
 );
 
+// Application and job listings return one page per request, with the next
+// page's cursor in the X-Next-Cursor header. Resolves to { data: [rows],
+// nextCursor } (nextCursor undefined on the last page); pass nextCursor back
+// in to get the following page.
+export const getPage = async (url, params = {}, cursor) => {
+  const res = await adminApi.get(url, { params: { ...params, cursor } });
+  return { data: res.data, nextCursor: res.headers["x-next-cursor"] };
+};
+
 export default adminApi;
@@ -1,52 +1,71 @@
 import { useEffect, useState } from "react";
-import adminApi from "../api/adminApi";
+import adminApi, { getPage } from "../api/adminApi";
 import AdminNavbar from "../components/AdminNavbar";
 import { Link } from "react-router-dom";
 import AdminSidebar from "../components/AdminSidebar";
 
+// Applications fetched per request; more are loaded on demand
+const PAGE_SIZE = 50;
+
+// Pause after the last keystroke before the search is sent
+const SEARCH_DELAY_MS = 300;
+
 export default function AllApplicants() {
   const [applications, setApplications] = useState([]);
-  const [filteredApps, setFilteredApps] = useState([]);
   const [searchTerm, setSearchTerm] = useState("");
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
 
+  // Cursor of the next page of applications (undefined once all are loaded)
+  const [nextCursor, setNextCursor] = useState();
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  // The search runs on the server, so a new term reloads from the first page
+  const queryParams = () => ({ limit: PAGE_SIZE, search: searchTerm.trim() || undefined });
+
   useEffect(() => {
+    let stale = false;
     const loadApplications = async () => {
       try {
         setLoading(true);
-        console.log("📥 Fetching all applications");
-        
-        const res = await adminApi.get("/api/applications/all");
+        console.log("📥 Fetching applications");
+
+        const res = await getPage("/api/applications/all", queryParams());
+        if (stale) return;
         console.log("✅ Applications fetched:", res.data);
-        
+
         setApplications(res.data);
-        setFilteredApps(res.data);
+        setNextCursor(res.nextCursor);
         setError("");
       } catch (err) {
+        if (stale) return;
         console.error("❌ Failed to load applications:", err);
         setError("Failed to load applications");
       } finally {
-        setLoading(false);
+        if (!stale) setLoading(false);
       }
     };
 
-    loadApplications();
-  }, []);
+    const timer = setTimeout(loadApplications, searchTerm ? SEARCH_DELAY_MS : 0);
+    return () => {
+      stale = true;
+      clearTimeout(timer);
+    };
+  }, [searchTerm]);
 
-  // Search functionality
-  useEffect(() => {
-    if (searchTerm.trim() === "") {
-      setFilteredApps(applications);
-    } else {
-      const filtered = applications.filter(app =>
-        app.fullname?.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        app.email?.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        app.skills?.toLowerCase().includes(searchTerm.toLowerCase())
-      );
-      setFilteredApps(filtered);
+  const loadMoreApplications = async () => {
+    setLoadingMore(true);
+    try {
+      const res = await getPage("/api/applications/all", queryParams(), nextCursor);
+      setApplications((prev) => [...prev, ...res.data]);
+      setNextCursor(res.nextCursor);
+    } catch (err) {
+      console.error("❌ Failed to load more applications:", err);
+      alert("Failed to load more applications");
+    } finally {
+      setLoadingMore(false);
     }
-  }, [searchTerm, applications]);
+  };
 
   const deleteApplication = async (id) => {
     if (!window.confirm("Delete this application?")) return;
@@ -76,16 +95,16 @@ export default function AllApplicants() {
       </p>
     </div>
      {/* Stats Cards */}
-    <div className="p-8 grid grid-cols-1 md:grid-cols-3 gap-6 mb-8">
+    <div className="p-8 grid grid-cols-1 md:grid-cols-2 gap-6 mb-8">
       <div className="bg-white rounded-xl shadow-sm border border-slate-200 p-6">
         <div className="flex items-center justify-between">
           <div>
-            <p className="text-sm font-medium text-slate-600">Total Applications</p>
+            <p className="text-sm font-medium text-slate-600">Applications Shown</p>
             <p className="text-3xl font-bold text-slate-900 mt-2">
               {loading ? (
                 <span className="inline-block w-16 h-8 bg-slate-200 animate-pulse rounded"></span>
               ) : (
-                applications.length
+                `${applications.length}${nextCursor ? "+" : ""}`
               )}
             </p>
           </div>
@@ -97,30 +116,10 @@ export default function AllApplicants() {
         </div>
       </div>
 
-       <div className="bg-white rounded-xl shadow-sm border border-slate-200 p-6">
-        <div className="flex items-center justify-between">
-          <div>
-            <p className="text-sm font-medium text-slate-600">Search Results</p>
-            <p className="text-3xl font-bold text-slate-900 mt-2">
-              {loading ? (
-                <span className="inline-block w-16 h-8 bg-slate-200 animate-pulse rounded"></span>
-              ) : (
-                filteredApps.length
-              )}
-            </p>
-          </div>
-          <div className="p-4 bg-blue-100 rounded-full">
-            <svg className="w-8 h-8 text-blue-600" fill="none" stroke="currentColor" viewBox="0 0 24 24">
-              <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M21 21l-6-6m2-5a7 7 0 11-14 0 7 7 0 0114 0z" />
-            </svg>
-          </div>
-        </div>
-      </div>
-
       <div className="bg-white rounded-xl shadow-sm border border-slate-200 p-6">
         <div className="flex items-center justify-between">
           <div>
-            <p className="text-sm font-medium text-slate-600">Unique Jobs</p>
+            <p className="text-sm font-medium text-slate-600">Jobs Shown</p>
             <p className="text-3xl font-bold text-slate-900 mt-2">
               {loading ? (
                 <span className="inline-block w-16 h-8 bg-slate-200 animate-pulse rounded"></span>
@@ -145,7 +144,7 @@ export default function AllApplicants() {
         <div className="mb-8">
           <input
             type="text"
-            placeholder="🔍 Search by name, email, or skills..."
+            placeholder="🔍 Search by name, email, phone, or skills..."
             value={searchTerm}
             onChange={(e) => setSearchTerm(e.target.value)}
             className="w-full p-4 rounded-2xl shadow-md border
@@ -153,9 +152,9 @@ export default function AllApplicants() {
                        transition-all duration-300"
           />
 
-          {searchTerm && (
+          {searchTerm && !loading && (
             <p className="text-sm text-gray-600 mt-2">
-              Found {filteredApps.length} result(s)
+              Found {applications.length}{nextCursor ? "+" : ""} result(s)
             </p>
           )}
         </div>
@@ -172,13 +171,13 @@ export default function AllApplicants() {
           </div>
         )}
 
-        {!loading && applications.length === 0 && (
+        {!loading && applications.length === 0 && !searchTerm && (
           <div className="bg-white rounded-3xl shadow-lg p-10 text-center text-gray-600">
             No applications received yet.
           </div>
         )}
 
-        {!loading && filteredApps.length === 0 && searchTerm && (
+        {!loading && applications.length === 0 && searchTerm && (
           <div className="bg-white rounded-3xl shadow-lg p-10 text-center text-gray-600">
             No results found for "{searchTerm}"
           </div>
@@ -186,7 +185,7 @@ export default function AllApplicants() {
 
         {/* Applications */}
         <ul className="space-y-8">
-          {filteredApps.map((app) => (
+          {applications.map((app) => (
             <li
               key={app.id}
               className="bg-white rounded-3xl shadow-xl p-8
@@ -266,6 +265,22 @@ export default function AllApplicants() {
             </li>
           ))}
         </ul>
+
+        {/* Load More */}
+        {!loading && nextCursor && (
+          <div className="flex flex-col items-center gap-2 mt-8">
+            <p className="text-sm text-gray-600">
+              Showing {applications.length} applications
+            </p>
+            <button
+              onClick={loadMoreApplications}
+              disabled={loadingMore}
+              className="bg-white text-blue-700 border border-blue-200 px-6 py-2 rounded-xl shadow-md transition-all duration-300 hover:bg-blue-50 disabled:opacity-50 disabled:cursor-not-allowed font-medium"
+            >
+              {loadingMore ? "Loading..." : "Load more applications"}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   </>
@@ -1,14 +1,21 @@
 import { useEffect, useState } from "react";
 import { useParams } from "react-router-dom";
-import adminApi from "../api/adminApi";
+import adminApi, { getPage } from "../api/adminApi";
 import AdminNavbar from "../components/AdminNavbar";
 
+// Applications fetched per request; more are loaded on demand
+const PAGE_SIZE = 50;
+
 export default function ApplicantsByJob() {
   const { jobId } = useParams();
   const [applications, setApplications] = useState([]);
   const [shortlist, setShortlist] = useState([]);
   const [loading, setLoading] = useState(false);
 
+  // Cursor of the next page of applications (undefined once all are loaded)
+  const [nextCursor, setNextCursor] = useState();
+  const [loadingMore, setLoadingMore] = useState(false);
+
   // ✨ NEW: Configurable number of candidates to shortlist (default: 100)
   // Previously hardcoded to 3, now admin can enter any number
   const [topN, setTopN] = useState(100);
@@ -19,8 +26,9 @@ export default function ApplicantsByJob() {
   useEffect(() => {
     const fetchApps = async () => {
       try {
-        const res = await adminApi.get(`/applications/byJob/${jobId}`);
+        const res = await getPage(`/applications/byJob/${jobId}`, { limit: PAGE_SIZE });
         setApplications(res.data);
+        setNextCursor(res.nextCursor);
       } catch (err) {
         console.error("Failed to load applications", err);
       }
@@ -29,6 +37,20 @@ export default function ApplicantsByJob() {
     fetchApps();
   }, [jobId]);
 
+  const loadMoreApps = async () => {
+    setLoadingMore(true);
+    try {
+      const res = await getPage(`/applications/byJob/${jobId}`, { limit: PAGE_SIZE }, nextCursor);
+      setApplications((prev) => [...prev, ...res.data]);
+      setNextCursor(res.nextCursor);
+    } catch (err) {
+      console.error("Failed to load more applications", err);
+      alert("Failed to load more applications");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleShortlist = async () => {
     setLoading(true);
     try {
@@ -88,7 +110,6 @@ export default function ApplicantsByJob() {
               value={topN}
               onChange={(e) => setTopN(Math.max(1, parseInt(e.target.value) || 1))}
               min="1"
-              max={applications.length}
               className="border border-gray-300 px-3 py-2 rounded w-32 focus:outline-none focus:ring-2 focus:ring-indigo-500"
               placeholder="e.g., 100"
             />
@@ -122,7 +143,7 @@ export default function ApplicantsByJob() {
         {/* ✨ NEW: Display total applications count */}
         {applications.length > 0 && (
           <p className="text-sm text-gray-600 mt-3">
-            Total applications: {applications.length}
+            Applications shown: {applications.length}{nextCursor ? "+" : ""}
           </p>
         )}
 
@@ -221,6 +242,18 @@ export default function ApplicantsByJob() {
             No applications received for this job yet.
           </div>
         )}
+
+        {nextCursor && (
+          <div className="text-center py-4">
+            <button
+              onClick={loadMoreApps}
+              disabled={loadingMore}
+              className="border border-indigo-300 text-indigo-700 px-6 py-2 rounded hover:bg-indigo-50 disabled:opacity-50 disabled:cursor-not-allowed transition-colors"
+            >
+              {loadingMore ? "Loading..." : "Load more applications"}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   );